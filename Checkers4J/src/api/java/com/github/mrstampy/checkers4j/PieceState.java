@@ -26,7 +26,14 @@ import com.github.mrstampy.checkers4j.api.CheckerRules;
 /**
  * Superclass of {@link Piece}, suitable for serialization to XML or JSON. A
  * minimum of information is included to uniquely identify a piece and its
- * current state.
+ * current state.<br>
+ * <br>
+ * 
+ * The state may also be packed into a single int via
+ * {@link #encode(int, int, int, boolean)} and unpacked via the decode methods,
+ * for transfer and storage as primitive arrays. The packed layout is, from the
+ * least significant bit: kinged (1 bit), colour (3 bits), number (12 bits) and
+ * position + 1 (16 bits).
  * 
  * @author burton
  *
@@ -35,6 +42,22 @@ public class PieceState implements Serializable {
 
 	private static final long serialVersionUID = 4756881299368009487L;
 
+	private static final int COLOUR_SHIFT = 1;
+	private static final int NUMBER_SHIFT = 4;
+	private static final int POSITION_SHIFT = 16;
+
+	private static final int COLOUR_MASK = 0x7;
+	private static final int NUMBER_MASK = 0xFFF;
+
+	/** The maximum colour number which can be packed. */
+	public static final int MAX_PACKED_COLOUR = COLOUR_MASK;
+
+	/** The maximum piece number which can be packed. */
+	public static final int MAX_PACKED_NUMBER = NUMBER_MASK;
+
+	/** The maximum position which can be packed. */
+	public static final int MAX_PACKED_POSITION = 0xFFFE;
+
 	private boolean kinged;
 
 	private int number;
@@ -122,6 +145,113 @@ public class PieceState implements Serializable {
 		this.position = position;
 	}
 
+	/**
+	 * Sets the values of this state to those of the specified state.
+	 *
+	 * @param ps
+	 *          the state to copy
+	 */
+	public void copy(PieceState ps) {
+		setColour(ps.getColour());
+		setNumber(ps.getNumber());
+		setPosition(ps.getPosition());
+		setKinged(ps.isKinged());
+	}
+
+	/**
+	 * Returns this state packed into an int.
+	 *
+	 * @return the packed state
+	 * @see #encode(int, int, int, boolean)
+	 */
+	public int encode() {
+		return encode(getColour(), getNumber(), getPosition(), isKinged());
+	}
+
+	/**
+	 * Sets the values of this state to those of the packed state.
+	 *
+	 * @param packed
+	 *          the packed state
+	 * @see #encode(int, int, int, boolean)
+	 */
+	public void decode(int packed) {
+		setColour(decodeColour(packed));
+		setNumber(decodeNumber(packed));
+		setPosition(decodePosition(packed));
+		setKinged(decodeKinged(packed));
+	}
+
+	/**
+	 * Packs the specified state into an int.
+	 *
+	 * @param colour
+	 *          the colour, 0 to {@link #MAX_PACKED_COLOUR}
+	 * @param number
+	 *          the number, 0 to {@link #MAX_PACKED_NUMBER}
+	 * @param position
+	 *          the position, -1 to {@link #MAX_PACKED_POSITION}
+	 * @param kinged
+	 *          the kinged
+	 * @return the packed state
+	 */
+	public static int encode(int colour, int number, int position, boolean kinged) {
+		assert colour >= 0 && colour <= MAX_PACKED_COLOUR;
+		assert number >= 0 && number <= MAX_PACKED_NUMBER;
+		assert position >= -1 && position <= MAX_PACKED_POSITION;
+
+		//@formatter:off
+		return (kinged ? 1 : 0) | 
+				colour << COLOUR_SHIFT | 
+				number << NUMBER_SHIFT | 
+				(position + 1) << POSITION_SHIFT;
+		//@formatter:on
+	}
+
+	/**
+	 * Returns the colour of the packed state.
+	 *
+	 * @param packed
+	 *          the packed state
+	 * @return the colour
+	 */
+	public static int decodeColour(int packed) {
+		return (packed >>> COLOUR_SHIFT) & COLOUR_MASK;
+	}
+
+	/**
+	 * Returns the number of the packed state.
+	 *
+	 * @param packed
+	 *          the packed state
+	 * @return the number
+	 */
+	public static int decodeNumber(int packed) {
+		return (packed >>> NUMBER_SHIFT) & NUMBER_MASK;
+	}
+
+	/**
+	 * Returns the position of the packed state, -1 if jumped.
+	 *
+	 * @param packed
+	 *          the packed state
+	 * @return the position
+	 */
+	public static int decodePosition(int packed) {
+		return (packed >>> POSITION_SHIFT) - 1;
+	}
+
+	/**
+	 * Returns the kinged flag of the packed state.
+	 *
+	 * @param packed
+	 *          the packed state
+	 * @return true, if kinged
+	 */
+	public static boolean decodeKinged(int packed) {
+		return (packed & 1) != 0;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
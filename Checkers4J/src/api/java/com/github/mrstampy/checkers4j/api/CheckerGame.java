@@ -25,6 +25,7 @@ import com.github.mrstampy.checkers4j.Piece;
 import com.github.mrstampy.checkers4j.PieceState;
 import com.github.mrstampy.checkers4j.annotation.Writable;
 import com.github.mrstampy.checkers4j.ex.CheckersStateException;
+import com.github.mrstampy.checkers4j.ex.CheckersStateException.ErrorState;
 
 // TODO: Auto-generated Javadoc
 /**
@@ -35,6 +36,9 @@ import com.github.mrstampy.checkers4j.ex.CheckersStateException;
  */
 public interface CheckerGame<RULES extends CheckerRules> extends Serializable {
 
+	/** Returned by {@link #tryMove(int, int, int)} for a successful move. */
+	int MOVE_OK = 0;
+
 	/**
 	 * Id for uniquely identifying a specific game.
 	 *
@@ -77,6 +81,132 @@ public interface CheckerGame<RULES extends CheckerRules> extends Serializable {
 	@Writable
 	List<PieceState> move(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException;
 
+	/**
+	 * Moves the specified piece as per {@link #move(int, int, int)}, describing
+	 * what happened in the specified outcome rather than returning the state.
+	 * Unsupported by default.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @param toPosition
+	 *          the to position
+	 * @param outcome
+	 *          the outcome to reset and fill
+	 * @return the outcome
+	 * @throws CheckersStateException
+	 *           the checkers state exception
+	 */
+	@Writable
+	default MoveOutcome move(int pieceColour, int pieceNumber, int toPosition, MoveOutcome outcome)
+			throws CheckersStateException {
+		throw new UnsupportedOperationException(getGameName() + " does not describe move outcomes");
+	}
+
+	/**
+	 * Attempts to move the specified piece to the new position, returning
+	 * {@link #MOVE_OK} if successful else the {@link ErrorState#getCode()} of the
+	 * reason for failure. No exceptions are created; suitable for probing
+	 * candidate moves. As with {@link #move(int, int, int)} the turn is claimed
+	 * for the piece colour if available, regardless of the move's success.<br>
+	 * <br>
+	 * The default implementation invokes {@link #move(int, int, int)} and so
+	 * creates exceptions on failure.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @param toPosition
+	 *          the to position
+	 * @return the result code
+	 * @see ErrorState#fromCode(int)
+	 */
+	@Writable
+	default int tryMove(int pieceColour, int pieceNumber, int toPosition) {
+		try {
+			move(pieceColour, pieceNumber, toPosition);
+
+			return MOVE_OK;
+		} catch (CheckersStateException e) {
+			return e.getErrorState().getCode();
+		}
+	}
+
+	/**
+	 * Writes the legal moves for the specified colour into the supplied buffer as
+	 * {@link com.github.mrstampy.checkers4j.api.recorder.PackedMove}s, returning
+	 * the number of moves written. No moves are generated if the game is finished
+	 * or if it is not the colour's turn. If {@link #isAutoEndTurn()} and the
+	 * colour's last move was a jump which can be continued, only the continuing
+	 * jumps of the jumping piece are generated. Unsupported by default.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param into
+	 *          the buffer, at least {@link #getMaxMoves()} long
+	 * @return the number of moves
+	 */
+	default int generateMoves(int pieceColour, long[] into) {
+		throw new UnsupportedOperationException(getGameName() + " does not generate moves");
+	}
+
+	/**
+	 * Returns the minimum length of the buffer passed to
+	 * {@link #generateMoves(int, long[])}. Unsupported by default.
+	 *
+	 * @return the max moves
+	 */
+	default int getMaxMoves() {
+		throw new UnsupportedOperationException(getGameName() + " does not generate moves");
+	}
+
+	/**
+	 * Returns an independent copy of this game's state of play, suitable for
+	 * search and analysis. Unsupported by default.
+	 *
+	 * @return the copy
+	 * @see #copyFrom(CheckerGame)
+	 */
+	default CheckerGame<RULES> copy() {
+		throw new UnsupportedOperationException(getGameName() + " cannot be copied");
+	}
+
+	/**
+	 * Overwrites the state of play of this game with that of the specified game,
+	 * which must be of the same type and dimensions. Intended for reusing
+	 * preallocated games during search. Unsupported by default.
+	 *
+	 * @param game
+	 *          the game to copy from
+	 */
+	@Writable
+	default void copyFrom(CheckerGame<RULES> game) {
+		throw new UnsupportedOperationException(getGameName() + " cannot be copied");
+	}
+
+	/**
+	 * Moves the specified piece as per {@link #move(int, int, int)}, returning
+	 * the {@link #getPackedState()}.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @param toPosition
+	 *          the to position
+	 * @return the packed state
+	 * @throws CheckersStateException
+	 *           the checkers state exception
+	 */
+	@Writable
+	default int[] movePacked(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException {
+		move(pieceColour, pieceNumber, toPosition);
+
+		return getPackedState();
+	}
+
 	/**
 	 * Must be invoked after all {@link #move(int, int, int)}s have been performed
 	 * to allow the {@link #getNextPlayer()} to have their turn.
@@ -103,6 +233,65 @@ public interface CheckerGame<RULES extends CheckerRules> extends Serializable {
 	 */
 	List<PieceState> getState();
 
+	/**
+	 * Writes the current state of play into the specified array, which must be at
+	 * least the size of the list returned by {@link #getState()} and must not
+	 * contain pieces of this game. Existing elements are overwritten in place and
+	 * null elements created, allowing the array to be reused across calls without
+	 * allocation.
+	 *
+	 * @param into
+	 *          the array to write to
+	 * @return the number of elements written
+	 */
+	default int getState(PieceState[] into) {
+		List<PieceState> state = getState();
+
+		for (int i = 0; i < state.size(); i++) {
+			if (into[i] == null) into[i] = new PieceState();
+
+			into[i].copy(state.get(i));
+		}
+
+		return state.size();
+	}
+
+	/**
+	 * Returns the current state of play, each piece packed as per
+	 * {@link PieceState#encode(int, int, int, boolean)}.
+	 *
+	 * @return the packed state
+	 */
+	default int[] getPackedState() {
+		List<PieceState> state = getState();
+
+		int[] packed = new int[state.size()];
+		for (int i = 0; i < packed.length; i++) {
+			packed[i] = state.get(i).encode();
+		}
+
+		return packed;
+	}
+
+	/**
+	 * Writes the current state of play into the specified array, each piece
+	 * packed as per {@link PieceState#encode(int, int, int, boolean)}. The array
+	 * must be at least the size of the list returned by {@link #getState()}.
+	 *
+	 * @param into
+	 *          the array to write to
+	 * @return the number of elements written
+	 */
+	default int getPackedState(int[] into) {
+		List<PieceState> state = getState();
+
+		for (int i = 0; i < state.size(); i++) {
+			into[i] = state.get(i).encode();
+		}
+
+		return state.size();
+	}
+
 	/**
 	 * Sets the state to that specified.
 	 *
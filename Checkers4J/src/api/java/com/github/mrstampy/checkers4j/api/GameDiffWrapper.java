@@ -20,9 +20,9 @@ package com.github.mrstampy.checkers4j.api;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import com.github.mrstampy.checkers4j.PieceState;
 import com.github.mrstampy.checkers4j.ex.CheckersStateException;
@@ -48,6 +48,9 @@ public class GameDiffWrapper implements Serializable {
 
 	private boolean returnDiff = true;
 
+	private int[] previous = new int[0];
+	private int colours;
+
 	/**
 	 * Gets the checker game.
 	 *
@@ -58,13 +61,28 @@ public class GameDiffWrapper implements Serializable {
 	}
 
 	/**
-	 * Sets the checker game.
+	 * Sets the checker game. Its current state becomes the state against which
+	 * the diff of the next {@link #move(int, int, int)} is made.
 	 *
 	 * @param checkerGame
 	 *          the new checker game
 	 */
 	public void setCheckerGame(CheckerGame<?> checkerGame) {
 		this.checkerGame = checkerGame;
+
+		previous = new int[0];
+		colours = 0;
+
+		if (checkerGame == null) {
+			currentState = Collections.emptyList();
+			return;
+		}
+
+		for (int colour : checkerGame.getRules().getValidColours()) {
+			colours = Math.max(colours, colour + 1);
+		}
+
+		setCurrentState(checkerGame.getState());
 	}
 
 	/**
@@ -117,41 +135,37 @@ public class GameDiffWrapper implements Serializable {
 	}
 
 	private List<PieceState> setCurrentState(List<PieceState> newState) {
-		List<PieceState> diff = getDiff(newState, this.currentState);
-		this.currentState = newState;
-		return diff;
-	}
+		boolean returnDiff = isReturnDiff();
 
-	private List<PieceState> getDiff(List<PieceState> newState, List<PieceState> oldState) {
-		if (!isReturnDiff()) return newState;
+		List<PieceState> diff = returnDiff ? new ArrayList<>() : newState;
 
-		List<PieceState> diff = new ArrayList<>();
+		for (int i = 0; i < newState.size(); i++) {
+			PieceState ps = newState.get(i);
 
-		newState.stream().filter(p -> isChanged(p, oldState)).forEach(p -> diff.add(p));
+			int slot = getSlot(ps);
+			int value = toSlotValue(ps);
 
-		return diff;
-	}
+			if (returnDiff && previous[slot] != value) diff.add(ps);
 
-	private boolean isChanged(PieceState piece, List<PieceState> oldState) {
-		PieceState old = getOld(piece, oldState);
+			previous[slot] = value;
+		}
 
-		return !unchanged(piece, old);
-	}
+		this.currentState = newState;
 
-	private boolean unchanged(PieceState ps, PieceState old) {
-		return old.getPosition() == ps.getPosition() && old.isKinged() == ps.isKinged();
+		return diff;
 	}
 
-	private PieceState getOld(PieceState ps, List<PieceState> oldState) {
-		Optional<PieceState> op = oldState.stream().filter(o -> samePiece(ps, o)).findFirst();
+	private int getSlot(PieceState ps) {
+		int slot = ps.getNumber() * colours + ps.getColour();
 
-		if (op.isPresent()) return op.get();
+		if (slot >= previous.length) previous = Arrays.copyOf(previous, Math.max(slot + 1, previous.length * 2));
 
-		throw new IllegalStateException("Should never get here...");
+		return slot;
 	}
 
-	private boolean samePiece(PieceState ps, PieceState old) {
-		return old.getColour() == ps.getColour() && old.getNumber() == ps.getNumber();
+	// 0 is reserved for pieces not in the previous state
+	private int toSlotValue(PieceState ps) {
+		return ((ps.getPosition() + 2) << 1) | (ps.isKinged() ? 1 : 0);
 	}
 
 }
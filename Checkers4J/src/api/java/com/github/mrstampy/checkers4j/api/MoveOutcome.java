@@ -0,0 +1,245 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.api;
+
+import java.io.Serializable;
+
+// TODO: Auto-generated Javadoc
+/**
+ * What happened as the result of a
+ * {@link CheckerGame#move(int, int, int, MoveOutcome)}. Instances are intended
+ * to be reused for each move, avoiding the generation of the game's state.
+ */
+public class MoveOutcome implements Serializable {
+
+	private static final long serialVersionUID = 2283476904591840961L;
+
+	private int colour = -1;
+	private int number = -1;
+	private int toPosition = -1;
+
+	private int capturedColour = -1;
+	private int capturedNumber = -1;
+	private int capturedPosition = -1;
+
+	private boolean kinged;
+	private boolean turnEnded;
+	private boolean finished;
+	private int winningColour = -1;
+
+	/**
+	 * Resets this outcome for the move of the specified piece.
+	 *
+	 * @param colour
+	 *          the colour
+	 * @param number
+	 *          the number
+	 * @param toPosition
+	 *          the to position
+	 */
+	public void reset(int colour, int number, int toPosition) {
+		this.colour = colour;
+		this.number = number;
+		this.toPosition = toPosition;
+
+		capturedColour = -1;
+		capturedNumber = -1;
+		capturedPosition = -1;
+
+		kinged = false;
+		turnEnded = false;
+		finished = false;
+		winningColour = -1;
+	}
+
+	/**
+	 * Sets the piece captured by the move.
+	 *
+	 * @param colour
+	 *          the colour
+	 * @param number
+	 *          the number
+	 * @param position
+	 *          the position from which it was captured
+	 */
+	public void setCaptured(int colour, int number, int position) {
+		capturedColour = colour;
+		capturedNumber = number;
+		capturedPosition = position;
+	}
+
+	/**
+	 * Returns true if the move captured a piece.
+	 *
+	 * @return true, if is capture
+	 */
+	public boolean isCapture() {
+		return capturedPosition != -1;
+	}
+
+	/**
+	 * Gets the colour of the moved piece.
+	 *
+	 * @return the colour
+	 */
+	public int getColour() {
+		return colour;
+	}
+
+	/**
+	 * Gets the number of the moved piece.
+	 *
+	 * @return the number
+	 */
+	public int getNumber() {
+		return number;
+	}
+
+	/**
+	 * Gets the to position.
+	 *
+	 * @return the to position
+	 */
+	public int getToPosition() {
+		return toPosition;
+	}
+
+	/**
+	 * Gets the captured colour, -1 if none.
+	 *
+	 * @return the captured colour
+	 */
+	public int getCapturedColour() {
+		return capturedColour;
+	}
+
+	/**
+	 * Gets the captured number, -1 if none.
+	 *
+	 * @return the captured number
+	 */
+	public int getCapturedNumber() {
+		return capturedNumber;
+	}
+
+	/**
+	 * Gets the captured position, -1 if none.
+	 *
+	 * @return the captured position
+	 */
+	public int getCapturedPosition() {
+		return capturedPosition;
+	}
+
+	/**
+	 * Returns true if the moved piece was kinged by the move.
+	 *
+	 * @return true, if is kinged
+	 */
+	public boolean isKinged() {
+		return kinged;
+	}
+
+	/**
+	 * Sets the kinged.
+	 *
+	 * @param kinged
+	 *          the new kinged
+	 */
+	public void setKinged(boolean kinged) {
+		this.kinged = kinged;
+	}
+
+	/**
+	 * Returns true if the move ended the turn.
+	 *
+	 * @return true, if is turn ended
+	 */
+	public boolean isTurnEnded() {
+		return turnEnded;
+	}
+
+	/**
+	 * Sets the turn ended.
+	 *
+	 * @param turnEnded
+	 *          the new turn ended
+	 */
+	public void setTurnEnded(boolean turnEnded) {
+		this.turnEnded = turnEnded;
+	}
+
+	/**
+	 * Returns true if the move finished the game.
+	 *
+	 * @return true, if is finished
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+
+	/**
+	 * Sets the finished.
+	 *
+	 * @param finished
+	 *          the new finished
+	 */
+	public void setFinished(boolean finished) {
+		this.finished = finished;
+	}
+
+	/**
+	 * Gets the winning colour, -1 if the game is not finished.
+	 *
+	 * @return the winning colour
+	 */
+	public int getWinningColour() {
+		return winningColour;
+	}
+
+	/**
+	 * Sets the winning colour.
+	 *
+	 * @param winningColour
+	 *          the new winning colour
+	 */
+	public void setWinningColour(int winningColour) {
+		this.winningColour = winningColour;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("Piece ").append(number).append(" of colour ").append(colour).append(" to ").append(toPosition);
+		if (isCapture()) {
+			sb.append(", captured ").append(capturedNumber).append(" of colour ").append(capturedColour);
+			sb.append(" at ").append(capturedPosition);
+		}
+		if (kinged) sb.append(", kinged");
+		if (turnEnded) sb.append(", turn ended");
+		if (finished) sb.append(", won by ").append(winningColour);
+
+		return sb.toString();
+	}
+}
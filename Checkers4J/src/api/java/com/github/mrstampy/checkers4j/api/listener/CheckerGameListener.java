@@ -0,0 +1,112 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.api.listener;
+
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Receives the changes made to a {@link CheckerGame} as they occur. Events are
+ * delivered synchronously on the thread making the change, in the order in
+ * which the changes occur; a jump fires {@link #captured(long, int, int, int)}
+ * before {@link #moved(long, int, int, int, int)}. Positions are as per the
+ * game's state. All methods do nothing by default.
+ */
+public interface CheckerGameListener {
+
+	/**
+	 * Invoked when a piece has moved.
+	 *
+	 * @param gameId
+	 *          the game id
+	 * @param colour
+	 *          the piece colour
+	 * @param number
+	 *          the piece number
+	 * @param fromPosition
+	 *          the from position
+	 * @param toPosition
+	 *          the to position
+	 */
+	default void moved(long gameId, int colour, int number, int fromPosition, int toPosition) {
+	}
+
+	/**
+	 * Invoked when a piece has been jumped and removed from play.
+	 *
+	 * @param gameId
+	 *          the game id
+	 * @param colour
+	 *          the colour of the captured piece
+	 * @param number
+	 *          the number of the captured piece
+	 * @param position
+	 *          the position from which the piece was captured
+	 */
+	default void captured(long gameId, int colour, int number, int position) {
+	}
+
+	/**
+	 * Invoked when a piece has been kinged.
+	 *
+	 * @param gameId
+	 *          the game id
+	 * @param colour
+	 *          the piece colour
+	 * @param number
+	 *          the piece number
+	 * @param position
+	 *          the position of the piece
+	 */
+	default void kinged(long gameId, int colour, int number, int position) {
+	}
+
+	/**
+	 * Invoked when the turn of the specified colour has ended.
+	 *
+	 * @param gameId
+	 *          the game id
+	 * @param colour
+	 *          the colour
+	 */
+	default void turnEnded(long gameId, int colour) {
+	}
+
+	/**
+	 * Invoked when the game has started.
+	 *
+	 * @param gameId
+	 *          the game id
+	 */
+	default void started(long gameId) {
+	}
+
+	/**
+	 * Invoked when the game has finished.
+	 *
+	 * @param gameId
+	 *          the game id
+	 * @param winningColour
+	 *          the winning colour, -1 if none
+	 * @param draw
+	 *          true if the game was drawn
+	 */
+	default void finished(long gameId, int winningColour, boolean draw) {
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.api.listener;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The {@link CheckerGameListener}s of a game, held in a copy on write array so
+ * that firing events neither allocates nor locks. Listeners are not
+ * serialized.
+ */
+public final class CheckerGameListeners implements Serializable, CheckerGameListener {
+
+	private static final long serialVersionUID = 5503919047736434513L;
+
+	private static final CheckerGameListener[] NONE = new CheckerGameListener[0];
+
+	private transient volatile CheckerGameListener[] listeners = NONE;
+
+	/**
+	 * Adds the listener.
+	 *
+	 * @param listener
+	 *          the listener
+	 */
+	public synchronized void addListener(CheckerGameListener listener) {
+		assert listener != null;
+
+		CheckerGameListener[] l = Arrays.copyOf(listeners, listeners.length + 1);
+		l[listeners.length] = listener;
+
+		listeners = l;
+	}
+
+	/**
+	 * Removes the listener.
+	 *
+	 * @param listener
+	 *          the listener
+	 */
+	public synchronized void removeListener(CheckerGameListener listener) {
+		CheckerGameListener[] l = listeners;
+
+		for (int i = 0; i < l.length; i++) {
+			if (l[i] != listener) continue;
+
+			CheckerGameListener[] removed = new CheckerGameListener[l.length - 1];
+			System.arraycopy(l, 0, removed, 0, i);
+			System.arraycopy(l, i + 1, removed, i, l.length - i - 1);
+
+			listeners = removed;
+			return;
+		}
+	}
+
+	/**
+	 * Returns true if there are any listeners.
+	 *
+	 * @return true, if successful
+	 */
+	public boolean hasListeners() {
+		return listeners.length > 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.api.listener.CheckerGameListener#moved(long,
+	 * int, int, int, int)
+	 */
+	@Override
+	public void moved(long gameId, int colour, int number, int fromPosition, int toPosition) {
+		CheckerGameListener[] l = listeners;
+
+		for (int i = 0; i < l.length; i++) {
+			l[i].moved(gameId, colour, number, fromPosition, toPosition);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.api.listener.CheckerGameListener#captured
+	 * (long, int, int, int)
+	 */
+	@Override
+	public void captured(long gameId, int colour, int number, int position) {
+		CheckerGameListener[] l = listeners;
+
+		for (int i = 0; i < l.length; i++) {
+			l[i].captured(gameId, colour, number, position);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.api.listener.CheckerGameListener#kinged(long,
+	 * int, int, int)
+	 */
+	@Override
+	public void kinged(long gameId, int colour, int number, int position) {
+		CheckerGameListener[] l = listeners;
+
+		for (int i = 0; i < l.length; i++) {
+			l[i].kinged(gameId, colour, number, position);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.api.listener.CheckerGameListener#turnEnded
+	 * (long, int)
+	 */
+	@Override
+	public void turnEnded(long gameId, int colour) {
+		CheckerGameListener[] l = listeners;
+
+		for (int i = 0; i < l.length; i++) {
+			l[i].turnEnded(gameId, colour);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.api.listener.CheckerGameListener#started(
+	 * long)
+	 */
+	@Override
+	public void started(long gameId) {
+		CheckerGameListener[] l = listeners;
+
+		for (int i = 0; i < l.length; i++) {
+			l[i].started(gameId);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.api.listener.CheckerGameListener#finished
+	 * (long, int, boolean)
+	 */
+	@Override
+	public void finished(long gameId, int winningColour, boolean draw) {
+		CheckerGameListener[] l = listeners;
+
+		for (int i = 0; i < l.length; i++) {
+			l[i].finished(gameId, winningColour, draw);
+		}
+	}
+
+	private Object readResolve() {
+		return new CheckerGameListeners();
+	}
+}
@@ -20,19 +20,25 @@ package com.github.mrstampy.checkers4j.api.recorder;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 // TODO: Auto-generated Javadoc
 /**
- * Convenience class to record moves.
+ * Convenience class to record moves. Moves are stored as {@link PackedMove}s,
+ * {@link Move} objects being created only on invocation of {@link #getMoves()}.
  * 
  * @see Recordable
  */
 public class CheckerGameRecorder implements Serializable {
 
-	private static final long serialVersionUID = -3178801099705113885L;
+	private static final long serialVersionUID = -2588203095691666786L;
 
-	private List<Move> moves = new ArrayList<>();
+	private long[] gameIds = new long[64];
+
+	private long[] moves = new long[64];
+
+	private int moveCount;
 
 	/**
 	 * Adds the move.
@@ -47,7 +53,32 @@ public class CheckerGameRecorder implements Serializable {
 	 *          the to position
 	 */
 	public void addMove(long gameId, int pieceColour, int pieceNumber, int toPosition) {
-		moves.add(new Move(gameId, pieceColour, pieceNumber, toPosition));
+		addMove(gameId, PackedMove.encode(pieceColour, pieceNumber, -1, toPosition, -1, false));
+	}
+
+	/**
+	 * Adds the move.
+	 *
+	 * @param gameId
+	 *          the game id
+	 * @param packedMove
+	 *          the {@link PackedMove}
+	 */
+	public void addMove(long gameId, long packedMove) {
+		if (moveCount == moves.length) {
+			moves = Arrays.copyOf(moves, moveCount * 2);
+			gameIds = Arrays.copyOf(gameIds, moveCount * 2);
+		}
+
+		gameIds[moveCount] = gameId;
+		moves[moveCount++] = packedMove;
+	}
+
+	/**
+	 * Removes the last move recorded, if any, as when a move is unmade.
+	 */
+	public void removeLastMove() {
+		if (moveCount > 0) moveCount--;
 	}
 
 	/**
@@ -56,13 +87,50 @@ public class CheckerGameRecorder implements Serializable {
 	 * @return the moves
 	 */
 	public List<Move> getMoves() {
-		return moves;
+		List<Move> list = new ArrayList<>(moveCount);
+
+		for (int i = 0; i < moveCount; i++) {
+			list.add(new Move(gameIds[i], moves[i]));
+		}
+
+		return list;
+	}
+
+	/**
+	 * Gets the {@link PackedMove}s.
+	 *
+	 * @return the packed moves
+	 */
+	public long[] getPackedMoves() {
+		return Arrays.copyOf(moves, moveCount);
+	}
+
+	/**
+	 * Returns the {@link PackedMove} at the specified index.
+	 *
+	 * @param idx
+	 *          the idx
+	 * @return the packed move
+	 */
+	public long getPackedMove(int idx) {
+		assert idx >= 0 && idx < moveCount;
+
+		return moves[idx];
+	}
+
+	/**
+	 * Returns the number of moves recorded.
+	 *
+	 * @return the move count
+	 */
+	public int getMoveCount() {
+		return moveCount;
 	}
 
 	/**
 	 * Clear.
 	 */
 	public void clear() {
-		moves.clear();
+		moveCount = 0;
 	}
 }
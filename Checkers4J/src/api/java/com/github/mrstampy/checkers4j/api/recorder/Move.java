@@ -55,6 +55,19 @@ public class Move implements Serializable {
 		setToPosition(toPosition);
 	}
 
+	/**
+	 * Instantiates a new move from a {@link PackedMove}.
+	 *
+	 * @param gameId
+	 *          the game id
+	 * @param packedMove
+	 *          the packed move
+	 */
+	public Move(long gameId, long packedMove) {
+		this(gameId, PackedMove.getColour(packedMove), PackedMove.getNumber(packedMove), PackedMove
+				.getToPosition(packedMove));
+	}
+
 	/**
 	 * Gets the piece colour.
 	 *
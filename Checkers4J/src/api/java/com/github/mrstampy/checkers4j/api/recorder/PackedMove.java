@@ -0,0 +1,186 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.api.recorder;
+
+import static com.github.mrstampy.checkers4j.PieceState.MAX_PACKED_COLOUR;
+import static com.github.mrstampy.checkers4j.PieceState.MAX_PACKED_NUMBER;
+import static com.github.mrstampy.checkers4j.PieceState.MAX_PACKED_POSITION;
+
+import com.github.mrstampy.checkers4j.PieceState;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Codec for moves packed into a long, the allocation free alternative to
+ * {@link Move}. From the least significant bit a packed move consists of the to
+ * position (16 bits), the from position (16 bits), the captured position (16
+ * bits), the piece number (12 bits), the piece colour (3 bits) and the
+ * promotion flag (1 bit). Positions are stored offset by one such that -1 (ie.
+ * unknown or none) can be encoded.
+ * 
+ * @see CheckerGameRecorder
+ */
+public final class PackedMove {
+
+	private static final int FROM_SHIFT = 16;
+	private static final int CAPTURED_SHIFT = 32;
+	private static final int NUMBER_SHIFT = 48;
+	private static final int COLOUR_SHIFT = 60;
+	private static final int PROMOTION_SHIFT = 63;
+
+	private static final long POSITION_MASK = 0xFFFF;
+
+	/** The encoding of no move. */
+	public static final long NO_MOVE = 0;
+
+	private PackedMove() {
+	}
+
+	/**
+	 * Packs the specified move into a long.
+	 *
+	 * @param colour
+	 *          the colour, 0 to {@link PieceState#MAX_PACKED_COLOUR}
+	 * @param number
+	 *          the number, 0 to {@link PieceState#MAX_PACKED_NUMBER}
+	 * @param fromPosition
+	 *          the from position, -1 if unknown
+	 * @param toPosition
+	 *          the to position
+	 * @param capturedPosition
+	 *          the position of the captured piece, -1 if none
+	 * @param promotion
+	 *          true if the move kings the piece
+	 * @return the packed move
+	 */
+	public static long encode(int colour, int number, int fromPosition, int toPosition, int capturedPosition,
+			boolean promotion) {
+		assert colour >= 0 && colour <= MAX_PACKED_COLOUR;
+		assert number >= 0 && number <= MAX_PACKED_NUMBER;
+		assert fromPosition >= -1 && fromPosition <= MAX_PACKED_POSITION;
+		assert toPosition >= 0 && toPosition <= MAX_PACKED_POSITION;
+		assert capturedPosition >= -1 && capturedPosition <= MAX_PACKED_POSITION;
+
+		//@formatter:off
+		return (long) (toPosition + 1) | 
+				(long) (fromPosition + 1) << FROM_SHIFT | 
+				(long) (capturedPosition + 1) << CAPTURED_SHIFT | 
+				(long) number << NUMBER_SHIFT | 
+				(long) colour << COLOUR_SHIFT | 
+				(promotion ? 1L : 0L) << PROMOTION_SHIFT;
+		//@formatter:on
+	}
+
+	/**
+	 * Returns the piece colour of the packed move.
+	 *
+	 * @param move
+	 *          the move
+	 * @return the colour
+	 */
+	public static int getColour(long move) {
+		return (int) (move >>> COLOUR_SHIFT) & MAX_PACKED_COLOUR;
+	}
+
+	/**
+	 * Returns the piece number of the packed move.
+	 *
+	 * @param move
+	 *          the move
+	 * @return the number
+	 */
+	public static int getNumber(long move) {
+		return (int) (move >>> NUMBER_SHIFT) & MAX_PACKED_NUMBER;
+	}
+
+	/**
+	 * Returns the from position of the packed move, -1 if unknown.
+	 *
+	 * @param move
+	 *          the move
+	 * @return the from position
+	 */
+	public static int getFromPosition(long move) {
+		return position(move, FROM_SHIFT);
+	}
+
+	/**
+	 * Returns the to position of the packed move.
+	 *
+	 * @param move
+	 *          the move
+	 * @return the to position
+	 */
+	public static int getToPosition(long move) {
+		return position(move, 0);
+	}
+
+	/**
+	 * Returns the position of the piece captured by the packed move, -1 if none.
+	 *
+	 * @param move
+	 *          the move
+	 * @return the captured position
+	 */
+	public static int getCapturedPosition(long move) {
+		return position(move, CAPTURED_SHIFT);
+	}
+
+	/**
+	 * Returns true if the packed move captures a piece.
+	 *
+	 * @param move
+	 *          the move
+	 * @return true, if is capture
+	 */
+	public static boolean isCapture(long move) {
+		return ((move >>> CAPTURED_SHIFT) & POSITION_MASK) != 0;
+	}
+
+	/**
+	 * Returns true if the packed move kings the piece.
+	 *
+	 * @param move
+	 *          the move
+	 * @return true, if is promotion
+	 */
+	public static boolean isPromotion(long move) {
+		return move < 0;
+	}
+
+	/**
+	 * Returns a human readable representation of the packed move.
+	 *
+	 * @param move
+	 *          the move
+	 * @return the string
+	 */
+	public static String toString(long move) {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(getColour(move)).append("-").append(getNumber(move)).append(": ");
+		sb.append(getFromPosition(move)).append(isCapture(move) ? "x" : "-").append(getToPosition(move));
+		if (isPromotion(move)) sb.append("K");
+
+		return sb.toString();
+	}
+
+	private static int position(long move, int shift) {
+		return (int) ((move >>> shift) & POSITION_MASK) - 1;
+	}
+}
@@ -37,4 +37,25 @@ public interface Recordable extends Serializable {
 	 */
 	List<Move> getMoves();
 
+	/**
+	 * All moves made are recorded and are returned as {@link PackedMove}s via
+	 * this method. The default implementation packs the {@link #getMoves()},
+	 * which carry no from or captured positions.
+	 *
+	 * @return the packed moves
+	 * @see CheckerGameRecorder
+	 */
+	default long[] getPackedMoves() {
+		List<Move> moves = getMoves();
+
+		long[] packed = new long[moves.size()];
+		for (int i = 0; i < packed.length; i++) {
+			Move m = moves.get(i);
+
+			packed[i] = PackedMove.encode(m.getPieceColour(), m.getPieceNumber(), -1, m.getToPosition(), -1, false);
+		}
+
+		return packed;
+	}
+
 }
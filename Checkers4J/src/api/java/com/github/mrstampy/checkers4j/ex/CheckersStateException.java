@@ -18,14 +18,26 @@
  */
 package com.github.mrstampy.checkers4j.ex;
 
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+
 // TODO: Auto-generated Javadoc
 /**
- * The Class CheckersStateException.
+ * The Class CheckersStateException. Instances created when
+ * {@link #isStackless()} do not capture a stack trace, and instances created
+ * without an explicit message format their message from their fields only when
+ * {@link #getMessage()} is invoked, for workloads which throw many exceptions
+ * and discard their diagnostics. Stackless mode can be enabled at startup by
+ * setting the system property {@value #STACKLESS_PROPERTY} to true.
  */
 public class CheckersStateException extends Exception {
 
 	private static final long serialVersionUID = -8967632739094953416L;
 
+	/** The system property enabling stackless mode on startup. */
+	public static final String STACKLESS_PROPERTY = "checkers4j.stackless.exceptions";
+
+	private static volatile boolean stackless = Boolean.getBoolean(STACKLESS_PROPERTY);
+
 	/**
 	 * The Enum ErrorState.
 	 */
@@ -41,6 +53,31 @@ public class CheckersStateException extends Exception {
 		ILLEGAL_VALUE,
 		/** The illegal state. */
 		ILLEGAL_STATE;
+
+		private static final ErrorState[] BY_CODE = values();
+
+		/**
+		 * Returns the primitive code of this error state, never equal to
+		 * {@link CheckerGame#MOVE_OK}.
+		 *
+		 * @return the code
+		 * @see CheckerGame#tryMove(int, int, int)
+		 */
+		public int getCode() {
+			return ordinal() + 1;
+		}
+
+		/**
+		 * Returns the error state of the specified code, null for
+		 * {@link CheckerGame#MOVE_OK}.
+		 *
+		 * @param code
+		 *          the code
+		 * @return the error state
+		 */
+		public static ErrorState fromCode(int code) {
+			return code == CheckerGame.MOVE_OK ? null : BY_CODE[code - 1];
+		}
 	}
 
 	private int colour;
@@ -76,6 +113,23 @@ public class CheckersStateException extends Exception {
 		this(colour, number, -1, errorState, msg);
 	}
 
+	/**
+	 * Instantiates a new checkers state exception whose message describing the
+	 * error state and move is formatted on demand.
+	 *
+	 * @param colour
+	 *          the colour
+	 * @param number
+	 *          the number
+	 * @param toPosition
+	 *          the to position
+	 * @param errorState
+	 *          the error state
+	 */
+	public CheckersStateException(int colour, int number, int toPosition, ErrorState errorState) {
+		this(colour, number, toPosition, errorState, null);
+	}
+
 	/**
 	 * Instantiates a new checkers state exception.
 	 *
@@ -91,13 +145,55 @@ public class CheckersStateException extends Exception {
 	 *          the msg
 	 */
 	public CheckersStateException(int colour, int number, int toPosition, ErrorState errorState, String msg) {
-		super(msg);
+		super(msg, null, true, !stackless);
 
 		setColour(colour);
+		setNumber(number);
 		setToPosition(toPosition);
 		setErrorState(errorState);
 	}
 
+	/**
+	 * Returns true if exceptions created subsequently do not capture a stack
+	 * trace.
+	 *
+	 * @return true if stackless
+	 */
+	public static boolean isStackless() {
+		return stackless;
+	}
+
+	/**
+	 * Sets whether exceptions created subsequently capture a stack trace.
+	 *
+	 * @param stackless
+	 *          true to suppress stack traces
+	 */
+	public static void setStackless(boolean stackless) {
+		CheckersStateException.stackless = stackless;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Throwable#getMessage()
+	 */
+	@Override
+	public String getMessage() {
+		String msg = super.getMessage();
+
+		return msg == null ? formatMessage() : msg;
+	}
+
+	private String formatMessage() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(errorState).append(": cannot move piece ").append(number).append(" of colour ").append(colour);
+		if (toPosition != -1) sb.append(" to ").append(toPosition);
+
+		return sb.toString();
+	}
+
 	/**
 	 * Gets the to position.
 	 *
@@ -19,17 +19,20 @@
 package com.github.mrstampy.checkers4j;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.github.mrstampy.checkers4j.annotation.ExposeInternals;
 import com.github.mrstampy.checkers4j.annotation.Writable;
 import com.github.mrstampy.checkers4j.api.CheckerGame;
 import com.github.mrstampy.checkers4j.api.CheckerRules;
+import com.github.mrstampy.checkers4j.api.MoveOutcome;
+import com.github.mrstampy.checkers4j.api.listener.CheckerGameListener;
+import com.github.mrstampy.checkers4j.api.listener.CheckerGameListeners;
 import com.github.mrstampy.checkers4j.ex.CheckersStateException;
 import com.github.mrstampy.checkers4j.ex.CheckersStateException.ErrorState;
 
@@ -60,8 +63,14 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 
 	private RULES rules;
 
-	/** The by colour. */
-	protected Map<Integer, List<Piece>> byColour = new HashMap<>();
+	/** The pieces indexed by colour, null for invalid colours. */
+	private List<Piece>[] byColour;
+
+	/** The pieces indexed by colour and piece number. */
+	private Piece[][] byNumber;
+
+	/** The number of pieces not jumped, indexed by colour. */
+	private int[] inPlay;
 
 	/** The state. */
 	protected List<Piece> state = new ArrayList<>();
@@ -74,7 +83,7 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 
 	private long endTime = -1;
 
-	private Map<Integer, Boolean> turns = new HashMap<>();
+	private int turn = -1;
 
 	private int lastPlayer = -1;
 
@@ -84,6 +93,11 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 
 	private boolean autoEndTurn = true;
 
+	/** The listeners, never null. */
+	protected final CheckerGameListeners listeners = new CheckerGameListeners();
+
+	private transient MoveOutcome outcome;
+
 	/**
 	 * Returns the underlying list of all pieces. Use {@link #getState()} if only
 	 * interested in state information; this method facilitates direct piece
@@ -109,11 +123,12 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 
 		this.rules = rules;
 
+		createIndices(rules);
+
 		for (int colour : rules.getValidColours()) {
 			List<Piece> pieces = createPieces(colour, rules);
 			state.addAll(pieces);
-			byColour.put(colour, pieces);
-			turns.put(colour, Boolean.FALSE);
+			pieces.forEach(p -> addByColour(p));
 		}
 
 		setGameStateInternal(GameState.INITIALIZED);
@@ -154,7 +169,7 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 
 	private void claim(int pieceColour) {
 		beginStateCheck();
-		turns.put(pieceColour, Boolean.TRUE);
+		turn = pieceColour;
 		lastPlayer = pieceColour;
 		setNextPlayer();
 	}
@@ -164,6 +179,34 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 	 */
 	protected abstract void setNextPlayer();
 
+	/**
+	 * Restores the turn and game state previously obtained from this game's
+	 * getters, without notifying listeners. Start and end times set since the
+	 * state was obtained are cleared.
+	 *
+	 * @param turn
+	 *          the colour holding the turn, as per {@link #hasTurn()}
+	 * @param lastPlayer
+	 *          the last player
+	 * @param nextPlayer
+	 *          the next player
+	 * @param winningColour
+	 *          the winning colour
+	 * @param gameState
+	 *          the game state
+	 */
+	protected void restoreTurnState(int turn, int lastPlayer, int nextPlayer, int winningColour, GameState gameState) {
+		this.turn = turn;
+		this.lastPlayer = lastPlayer;
+		this.nextPlayer = nextPlayer;
+		this.winningColour = winningColour;
+
+		if (gameState == GameState.INITIALIZED) startTime = -1;
+		if (gameState != GameState.FINISHED) endTime = -1;
+
+		this.gameState = gameState;
+	}
+
 	private boolean claimable(int pieceColour) {
 		int hasTurn = hasTurn();
 		if (hasTurn >= 0 && hasTurn != pieceColour) {
@@ -181,7 +224,32 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 	@Override
 	public void endTurn(int pieceColour) {
 		rules.isValidPieceColour(pieceColour);
-		turns.put(pieceColour, Boolean.FALSE);
+
+		if (turn != pieceColour) return;
+
+		turn = -1;
+
+		listeners.turnEnded(gameId, pieceColour);
+	}
+
+	/**
+	 * Adds a listener to be notified of changes to this game.
+	 *
+	 * @param listener
+	 *          the listener
+	 */
+	public void addListener(CheckerGameListener listener) {
+		listeners.addListener(listener);
+	}
+
+	/**
+	 * Removes the listener.
+	 *
+	 * @param listener
+	 *          the listener
+	 */
+	public void removeListener(CheckerGameListener listener) {
+		listeners.removeListener(listener);
 	}
 
 	/*
@@ -190,11 +258,7 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#hasTurn()
 	 */
 	public int hasTurn() {
-		for (Entry<Integer, Boolean> entry : turns.entrySet()) {
-			if (entry.getValue() == Boolean.TRUE) return entry.getKey();
-		}
-
-		return -1;
+		return turn;
 	}
 
 	/*
@@ -204,31 +268,225 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 	 */
 	@Override
 	public List<PieceState> move(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException {
+		movePiece(pieceColour, pieceNumber, toPosition);
+
+		return getState();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#movePacked(int, int,
+	 * int)
+	 */
+	@Override
+	public int[] movePacked(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException {
+		movePiece(pieceColour, pieceNumber, toPosition);
+
+		return getPackedState();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#move(int, int, int,
+	 * com.github.mrstampy.checkers4j.api.MoveOutcome)
+	 */
+	@Override
+	public MoveOutcome move(int pieceColour, int pieceNumber, int toPosition, MoveOutcome outcome)
+			throws CheckersStateException {
+		outcome.reset(pieceColour, pieceNumber, toPosition);
+
+		Piece piece = getPiece(pieceColour, pieceNumber);
+		boolean wasKinged = piece != null && piece.isKinged();
+
+		this.outcome = outcome;
+		try {
+			movePiece(pieceColour, pieceNumber, toPosition);
+		} finally {
+			this.outcome = null;
+		}
+
+		outcome.setKinged(!wasKinged && piece.isKinged());
+		outcome.setTurnEnded(hasTurn() != pieceColour);
+		outcome.setFinished(GameState.FINISHED == gameState);
+		outcome.setWinningColour(winningColour);
+
+		return outcome;
+	}
+
+	/**
+	 * Marks the specified piece as jumped, keeping the count of pieces in play
+	 * current. Does not modify the board.
+	 *
+	 * @param piece
+	 *          the piece
+	 * @see #getPiecesInPlay(int)
+	 */
+	protected void markJumped(Piece piece) {
+		if (piece.isJumped()) return;
+
+		piece.jumped();
+		inPlay[piece.getColour()]--;
+	}
+
+	/**
+	 * Returns the specified jumped piece to play at the specified position,
+	 * reversing {@link #markJumped(Piece)}. Does not modify the board.
+	 *
+	 * @param piece
+	 *          the piece
+	 * @param position
+	 *          the position
+	 */
+	protected void markUnjumped(Piece piece, int position) {
+		if (!piece.isJumped()) return;
+
+		piece.setPosition(position);
+		inPlay[piece.getColour()]++;
+	}
+
+	/**
+	 * Returns the number of pieces of the specified colour which have not been
+	 * jumped.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @return the pieces in play
+	 */
+	public int getPiecesInPlay(int pieceColour) {
+		return isIndexedColour(pieceColour) ? inPlay[pieceColour] : 0;
+	}
+
+	/**
+	 * Invoke when the specified piece has been captured to notify listeners and
+	 * any {@link MoveOutcome} of the move in progress.
+	 *
+	 * @param piece
+	 *          the piece
+	 * @param position
+	 *          the position from which it was captured
+	 */
+	protected void captured(Piece piece, int position) {
+		listeners.captured(gameId, piece.getColour(), piece.getNumber(), position);
+
+		if (outcome != null) outcome.setCaptured(piece.getColour(), piece.getNumber(), position);
+	}
+
+	/**
+	 * Moves the specified piece to the new position as per
+	 * {@link #move(int, int, int)} without generating the resulting state. No
+	 * heap allocation occurs for legal moves; use in preference to
+	 * {@link #move(int, int, int)} when the state is not required after each
+	 * move.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @param toPosition
+	 *          the to position
+	 * @throws CheckersStateException
+	 *           the checkers state exception
+	 */
+	@Writable
+	public void movePiece(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException {
 		beginTurn(pieceColour);
 
-		if (GameState.STARTED != getGameState()) {
-			throw new CheckersStateException(ErrorState.ILLEGAL_STATE, "Game " + getGameId() + " not started");
+		int code = moveChecked(pieceColour, pieceNumber, toPosition);
+
+		if (code != MOVE_OK) {
+			throw new CheckersStateException(pieceColour, pieceNumber, toPosition, ErrorState.fromCode(code));
 		}
+	}
 
-		if (!rules.isValidPosition(toPosition)) {
-			throw new CheckersStateException(pieceColour, pieceNumber, toPosition, ErrorState.ILLEGAL_VALUE,
-					"Illegal position " + toPosition);
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#tryMove(int, int, int)
+	 */
+	@Override
+	public int tryMove(int pieceColour, int pieceNumber, int toPosition) {
+		int code = turnCheck(pieceColour);
+		if (code != MOVE_OK) return code;
+
+		beginTurn(pieceColour);
+
+		return moveChecked(pieceColour, pieceNumber, toPosition);
+	}
+
+	private int turnCheck(int pieceColour) {
+		if (!isIndexedColour(pieceColour)) return ErrorState.ILLEGAL_VALUE.getCode();
+
+		int hasTurn = hasTurn();
+		if (hasTurn >= 0 && hasTurn != pieceColour) return ErrorState.OUT_OF_TURN.getCode();
+
+		switch (getGameState()) {
+		case FINISHED:
+		case STATELESS:
+			return ErrorState.ILLEGAL_STATE.getCode();
+		default:
+			return MOVE_OK;
 		}
+	}
 
-		Piece piece = pieceCheck(pieceColour, pieceNumber);
+	private int moveChecked(int pieceColour, int pieceNumber, int toPosition) {
+		if (GameState.STARTED != getGameState()) return ErrorState.ILLEGAL_STATE.getCode();
 
-		if (!piece.directionCheck(toPosition)) {
-			throw new CheckersStateException(pieceColour, pieceNumber, toPosition, ErrorState.ILLEGAL_MOVE, "Cannot move "
-					+ piece + " to " + toPosition);
+		if (!rules.isValidPosition(toPosition) || toPosition == -1) return ErrorState.ILLEGAL_VALUE.getCode();
+
+		Piece piece = getPiece(pieceColour, pieceNumber);
+
+		if (piece == null || piece.isJumped()) return ErrorState.ILLEGAL_STATE.getCode();
+
+		if (piece.getPosition() == toPosition || !piece.directionCheck(toPosition)) {
+			return ErrorState.ILLEGAL_MOVE.getCode();
 		}
 
-		moveImpl(piece, toPosition);
+		int fromPosition = piece.getPosition();
+		boolean wasKinged = piece.isKinged();
+
+		int code = tryMoveImpl(piece, toPosition);
+		if (code != MOVE_OK) return code;
 
-		if (rules.isKingable(piece)) piece.setKinged(true);
+		if (rules.isKingable(piece)) king(piece);
+
+		moveMade(piece, fromPosition, toPosition, !wasKinged && piece.isKinged());
 
 		endOfGameCheck(piece);
 
-		return getState();
+		return MOVE_OK;
+	}
+
+	/**
+	 * Invoked after every successful move, however made, before the end of game
+	 * check. Does nothing by default; override to observe the moves made.
+	 *
+	 * @param piece
+	 *          the piece moved
+	 * @param fromPosition
+	 *          the from position
+	 * @param toPosition
+	 *          the to position
+	 * @param kinged
+	 *          true if the piece was kinged by the move
+	 */
+	protected void moveMade(Piece piece, int fromPosition, int toPosition, boolean kinged) {
+	}
+
+	/**
+	 * Kings the specified piece. Invoked after a move when
+	 * {@link CheckerRules#isKingable(Piece)} returns true; override to update any
+	 * state dependent upon the piece's kinged status.
+	 *
+	 * @param piece
+	 *          the piece
+	 */
+	@Writable
+	public void king(Piece piece) {
+		piece.setKinged(true);
+
+		listeners.kinged(gameId, piece.getColour(), piece.getNumber(), piece.getPosition());
 	}
 
 	/**
@@ -247,6 +505,29 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 	 */
 	protected abstract void moveImpl(Piece piece, int toPosition) throws CheckersStateException;
 
+	/**
+	 * Attempts to move the piece to the intended position, returning
+	 * {@link CheckerGame#MOVE_OK} if successful else the
+	 * {@link ErrorState#getCode()} of the failure, in which case the game's state
+	 * must be unchanged. Preconditions are as per {@link #moveImpl(Piece, int)},
+	 * which this implementation invokes. Override to avoid exception creation for
+	 * illegal moves.
+	 *
+	 * @param piece
+	 *          the piece
+	 * @param toPosition
+	 *          the to position
+	 * @return the result code
+	 */
+	protected int tryMoveImpl(Piece piece, int toPosition) {
+		try {
+			moveImpl(piece, toPosition);
+			return MOVE_OK;
+		} catch (CheckersStateException e) {
+			return e.getErrorState().getCode();
+		}
+	}
+
 	/**
 	 * End of game check.
 	 *
@@ -261,22 +542,22 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 	}
 
 	/**
-	 * Other colours in play.
+	 * Returns true if any other colour has a piece in play able to move. The
+	 * pieces in play are counted as they are jumped, so only colours with pieces
+	 * remaining are asked {@link #canMove(int)}.
 	 *
 	 * @param pieceColour
 	 *          the piece colour
 	 * @return true, if successful
 	 */
 	protected boolean otherColoursInPlay(int pieceColour) {
-		boolean others = false;
-
-		for (Entry<Integer, List<Piece>> entry : byColour.entrySet()) {
-			if (entry.getKey() == pieceColour) continue;
+		for (int colour : rules.getValidColours()) {
+			if (colour == pieceColour) continue;
 
-			if (!others && playing(entry.getValue())) others = canMove(entry.getKey());
+			if (getPiecesInPlay(colour) > 0 && canMove(colour)) return true;
 		}
 
-		return others;
+		return false;
 	}
 
 	/**
@@ -287,42 +568,69 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 	 * @return true, if successful
 	 */
 	public static boolean playing(List<Piece> value) {
-		for (Piece piece : value) {
-			if (!piece.isJumped()) return true;
+		for (int i = 0; i < value.size(); i++) {
+			if (!value.get(i).isJumped()) return true;
 		}
 
 		return false;
 	}
 
-	@SuppressWarnings("unchecked")
-	private Piece pieceCheck(int pieceColour, int pieceNumber) throws CheckersStateException {
-		List<Piece> pieces = byColour.containsKey(pieceColour) ? byColour.get(pieceColour) : Collections.EMPTY_LIST;
+	/**
+	 * Returns the specified piece, null if no such piece.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @return the piece
+	 */
+	protected Piece getPiece(int pieceColour, int pieceNumber) {
+		if (!isIndexedColour(pieceColour)) return null;
 
-		if (pieces.isEmpty()) {
-			throw new CheckersStateException(pieceColour, pieceNumber, ErrorState.ILLEGAL_STATE, "No pieces for colour "
-					+ pieceColour);
-		}
+		Piece[] pieces = byNumber[pieceColour];
 
-		Piece piece = getPiece(pieces, pieceNumber);
+		return pieceNumber < 0 || pieceNumber >= pieces.length ? null : pieces[pieceNumber];
+	}
 
-		if (piece == null) {
-			throw new CheckersStateException(pieceColour, pieceNumber, ErrorState.ILLEGAL_STATE, "No piece " + pieceNumber
-					+ " for colour " + pieceColour);
-		}
+	/**
+	 * Returns the pieces of the specified colour, null if the colour is not in
+	 * play. Do not modify; use {@link #addByColour(Piece)} and
+	 * {@link #removeByColour(Piece)}.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @return the pieces
+	 */
+	protected List<Piece> getPieces(int pieceColour) {
+		return isIndexedColour(pieceColour) ? byColour[pieceColour] : null;
+	}
+
+	/**
+	 * Returns the pieces keyed by the colours in play. Do not modify the lists;
+	 * use {@link #addByColour(Piece)} and {@link #removeByColour(Piece)}.
+	 *
+	 * @return the pieces by colour
+	 * @see #getPieces(int)
+	 */
+	protected Map<Integer, List<Piece>> getPiecesByColour() {
+		Map<Integer, List<Piece>> map = new LinkedHashMap<>();
 
-		if (piece.isJumped()) {
-			throw new CheckersStateException(pieceColour, pieceNumber, ErrorState.ILLEGAL_STATE, piece + " has been jumped");
+		for (int colour = 0; colour < byColour.length; colour++) {
+			if (byColour[colour] != null) map.put(colour, byColour[colour]);
 		}
 
-		return piece;
+		return Collections.unmodifiableMap(map);
 	}
 
-	private Piece getPiece(List<Piece> pieces, int pieceNumber) {
-		for (Piece p : pieces) {
-			if (p.getNumber() == pieceNumber) return p;
-		}
-
-		return null;
+	/**
+	 * Returns true if pieces of the specified colour are indexed by this game.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @return true, if successful
+	 */
+	protected boolean isIndexedColour(int pieceColour) {
+		return pieceColour >= 0 && pieceColour < byColour.length && byColour[pieceColour] != null;
 	}
 
 	@SuppressWarnings("incomplete-switch")
@@ -369,6 +677,52 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 		return createState(state);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.api.CheckerGame#getState(com.github.mrstampy
+	 * .checkers4j.PieceState[])
+	 */
+	@Override
+	public int getState(PieceState[] into) {
+		for (int i = 0; i < state.size(); i++) {
+			if (into[i] == null) into[i] = new PieceState();
+
+			into[i].copy(state.get(i));
+		}
+
+		return state.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#getPackedState()
+	 */
+	@Override
+	public int[] getPackedState() {
+		int[] packed = new int[state.size()];
+
+		getPackedState(packed);
+
+		return packed;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#getPackedState(int[])
+	 */
+	@Override
+	public int getPackedState(int[] into) {
+		for (int i = 0; i < state.size(); i++) {
+			into[i] = state.get(i).encode();
+		}
+
+		return state.size();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -381,20 +735,129 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 
 		this.state = state;
 
-		byColour.clear();
+		clearIndices();
 
 		state.forEach(p -> addByColour(p));
 
 		setStateImpl(state);
 	}
 
-	private void addByColour(Piece piece) {
-		List<Piece> list = byColour.get(piece.getColour());
-		if (list == null) {
-			list = new ArrayList<>();
-			byColour.put(piece.getColour(), list);
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.api.CheckerGame#copyFrom(com.github.mrstampy
+	 * .checkers4j.api.CheckerGame)
+	 */
+	@Override
+	public void copyFrom(CheckerGame<RULES> game) {
+		if (!getClass().isInstance(game)) {
+			throw new IllegalArgumentException("Cannot copy " + game.getGameName() + " into " + getGameName());
+		}
+
+		AbstractCheckerGame<RULES> acg = (AbstractCheckerGame<RULES>) game;
+
+		copyPieces(acg.state);
+
+		turn = acg.turn;
+		gameId = acg.gameId;
+		winningColour = acg.winningColour;
+		gameState = acg.gameState;
+		startTime = acg.startTime;
+		endTime = acg.endTime;
+		lastPlayer = acg.lastPlayer;
+		nextPlayer = acg.nextPlayer;
+		draw = acg.draw;
+		autoEndTurn = acg.autoEndTurn;
+
+		setStateImpl(state);
+	}
+
+	private void copyPieces(List<Piece> from) {
+		while (state.size() > from.size()) {
+			state.remove(state.size() - 1);
+		}
+
+		for (int i = 0; i < from.size(); i++) {
+			Piece p = from.get(i);
+
+			if (i < state.size()) {
+				state.get(i).copy(p);
+			} else {
+				state.add(new Piece(rules, p.getColour(), p.getNumber(), p.getOrder()));
+				state.get(i).copy(p);
+			}
+		}
+
+		clearIndices();
+
+		for (int i = 0; i < state.size(); i++) {
+			addByColour(state.get(i));
 		}
-		list.add(piece);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void createIndices(RULES rules) {
+		int size = 0;
+		for (int colour : rules.getValidColours()) {
+			size = Math.max(size, colour + 1);
+		}
+
+		byColour = new List[size];
+		byNumber = new Piece[size][];
+		inPlay = new int[size];
+
+		for (int colour : rules.getValidColours()) {
+			byColour[colour] = new ArrayList<>();
+			byNumber[colour] = new Piece[rules.getNumberOfPieces() + 1];
+		}
+	}
+
+	private void clearIndices() {
+		for (int colour = 0; colour < byColour.length; colour++) {
+			if (byColour[colour] == null) continue;
+
+			byColour[colour].clear();
+			Arrays.fill(byNumber[colour], null);
+			inPlay[colour] = 0;
+		}
+	}
+
+	/**
+	 * Adds the piece to the colour and piece number indices.
+	 *
+	 * @param piece
+	 *          the piece
+	 */
+	protected void addByColour(Piece piece) {
+		int colour = piece.getColour();
+		int number = piece.getNumber();
+
+		byColour[colour].add(piece);
+		if (!piece.isJumped()) inPlay[colour]++;
+
+		Piece[] pieces = byNumber[colour];
+		if (number >= pieces.length) {
+			pieces = Arrays.copyOf(pieces, Math.max(number + 1, pieces.length * 2));
+			byNumber[colour] = pieces;
+		}
+
+		pieces[number] = piece;
+	}
+
+	/**
+	 * Removes the piece from the colour and piece number indices.
+	 *
+	 * @param piece
+	 *          the piece
+	 */
+	protected void removeByColour(Piece piece) {
+		int colour = piece.getColour();
+
+		if (byColour[colour].remove(piece) && !piece.isJumped()) inPlay[colour]--;
+
+		Piece[] pieces = byNumber[colour];
+		if (pieces[piece.getNumber()] == piece) pieces[piece.getNumber()] = null;
 	}
 
 	/**
@@ -414,7 +877,7 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 	@SuppressWarnings("unchecked")
 	@Override
 	public List<PieceState> getState(int pieceColour) {
-		return byColour.containsKey(pieceColour) ? createState(byColour.get(pieceColour)) : Collections.EMPTY_LIST;
+		return isIndexedColour(pieceColour) ? createState(byColour[pieceColour]) : Collections.EMPTY_LIST;
 	}
 
 	private List<PieceState> createState(List<Piece> list) {
@@ -428,10 +891,7 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 	private void addToState(Piece p, List<PieceState> list) {
 		PieceState ps = new PieceState();
 
-		ps.setColour(p.getColour());
-		ps.setKinged(p.isKinged());
-		ps.setPosition(p.getPosition());
-		ps.setNumber(p.getNumber());
+		ps.copy(p);
 
 		list.add(ps);
 	}
@@ -535,9 +995,11 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 		switch (gameState) {
 		case FINISHED:
 			setEndTime(System.currentTimeMillis());
+			listeners.finished(gameId, winningColour, draw);
 			break;
 		case STARTED:
 			setStartTime(System.currentTimeMillis());
+			listeners.started(gameId);
 			break;
 		}
 	}
@@ -591,8 +1053,8 @@ public abstract class AbstractCheckerGame<RULES extends CheckerRules> implements
 	 */
 	@Override
 	public void draw() {
-		setGameStateInternal(GameState.FINISHED);
 		setDraw(true);
+		setGameStateInternal(GameState.FINISHED);
 	}
 
 	/*
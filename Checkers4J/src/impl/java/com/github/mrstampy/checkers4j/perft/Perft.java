@@ -0,0 +1,341 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.perft;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.api.CheckerRules;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Counts the leaf nodes of the move tree to a given depth from a given position
+ * of any {@link CheckerGame} implementing
+ * {@link CheckerGame#generateMoves(int, long[])}. Used to validate rule changes
+ * and to measure the raw speed of move generation.<br>
+ * <br>
+ * Each ply of a multi jump counts as one ply of depth. Games are expected to
+ * {@link CheckerGame#isAutoEndTurn()}; the game passed in is never modified.<br>
+ * <br>
+ * Instances created with a table size reuse the node counts of transposed
+ * subtrees. The table is shared by all threads of the parallel variants.
+ */
+public class Perft {
+
+	private PerftTable table;
+
+	/**
+	 * Instantiates a new perft without a hash table.
+	 */
+	public Perft() {
+	}
+
+	/**
+	 * Instantiates a new perft with a hash table of 2^tableBits entries.
+	 *
+	 * @param tableBits
+	 *          the size of the hash table as a power of two, 0 for no table
+	 */
+	public Perft(int tableBits) {
+		if (tableBits > 0) table = new PerftTable(tableBits);
+	}
+
+	/**
+	 * Returns the number of leaf nodes at the specified depth from the current
+	 * position of the game, the specified colour moving first.
+	 *
+	 * @param <RULES>
+	 *          the generic type
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param depth
+	 *          the depth
+	 * @return the node count
+	 */
+	public <RULES extends CheckerRules> long perft(CheckerGame<RULES> game, int pieceColour, int depth) {
+		assert depth >= 0;
+
+		return new Searcher<>(game, depth, table).perft(0, pieceColour, depth, -1);
+	}
+
+	/**
+	 * Returns the node count of each root move as per
+	 * {@link #perft(CheckerGame, int, int)}, keyed by the {@link PackedMove} and
+	 * in order of generation.
+	 *
+	 * @param <RULES>
+	 *          the generic type
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param depth
+	 *          the depth, must be greater than zero
+	 * @return the node count by root move
+	 */
+	public <RULES extends CheckerRules> Map<Long, Long> divide(CheckerGame<RULES> game, int pieceColour, int depth) {
+		assert depth > 0;
+
+		Searcher<RULES> searcher = new Searcher<>(game, depth, table);
+
+		long[] moves = new long[game.getMaxMoves()];
+		int count = game.generateMoves(pieceColour, moves);
+
+		Map<Long, Long> divide = new LinkedHashMap<>();
+		for (int i = 0; i < count; i++) {
+			divide.put(moves[i], searcher.perft(0, moves[i], depth));
+		}
+
+		return divide;
+	}
+
+	/**
+	 * Parallel {@link #perft(CheckerGame, int, int)} using the common fork join
+	 * pool.
+	 *
+	 * @param <RULES>
+	 *          the generic type
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param depth
+	 *          the depth
+	 * @return the node count
+	 * @see #parallelDivide(CheckerGame, int, int, ForkJoinPool)
+	 */
+	public <RULES extends CheckerRules> long parallelPerft(CheckerGame<RULES> game, int pieceColour, int depth) {
+		return parallelPerft(game, pieceColour, depth, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Parallel {@link #perft(CheckerGame, int, int)} using the specified pool.
+	 *
+	 * @param <RULES>
+	 *          the generic type
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param depth
+	 *          the depth
+	 * @param pool
+	 *          the pool
+	 * @return the node count
+	 * @see #parallelDivide(CheckerGame, int, int, ForkJoinPool)
+	 */
+	public <RULES extends CheckerRules> long parallelPerft(CheckerGame<RULES> game, int pieceColour, int depth,
+			ForkJoinPool pool) {
+		if (depth == 0) return 1;
+
+		long nodes = 0;
+		for (long count : parallelDivide(game, pieceColour, depth, pool).values()) {
+			nodes += count;
+		}
+
+		return nodes;
+	}
+
+	/**
+	 * Parallel {@link #divide(CheckerGame, int, int)} using the common fork join
+	 * pool.
+	 *
+	 * @param <RULES>
+	 *          the generic type
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param depth
+	 *          the depth, must be greater than zero
+	 * @return the node count by root move
+	 * @see #parallelDivide(CheckerGame, int, int, ForkJoinPool)
+	 */
+	public <RULES extends CheckerRules> Map<Long, Long> parallelDivide(CheckerGame<RULES> game, int pieceColour,
+			int depth) {
+		return parallelDivide(game, pieceColour, depth, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Parallel {@link #divide(CheckerGame, int, int)}. The subtree of each root
+	 * move is counted by its own task on its own copy of the game.
+	 *
+	 * @param <RULES>
+	 *          the generic type
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param depth
+	 *          the depth, must be greater than zero
+	 * @param pool
+	 *          the pool
+	 * @return the node count by root move
+	 */
+	public <RULES extends CheckerRules> Map<Long, Long> parallelDivide(CheckerGame<RULES> game, int pieceColour,
+			int depth, ForkJoinPool pool) {
+		assert depth > 0;
+
+		long[] moves = new long[game.getMaxMoves()];
+		int count = game.generateMoves(pieceColour, moves);
+
+		List<PerftTask<RULES>> tasks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			tasks.add(new PerftTask<>(new Searcher<>(game, depth, table), moves[i], depth));
+		}
+
+		pool.invoke(new RecursiveAction() {
+
+			private static final long serialVersionUID = 4611592617309184522L;
+
+			@Override
+			protected void compute() {
+				invokeAll(tasks);
+			}
+		});
+
+		Map<Long, Long> divide = new LinkedHashMap<>();
+		for (int i = 0; i < count; i++) {
+			divide.put(moves[i], tasks.get(i).join());
+		}
+
+		return divide;
+	}
+
+	/**
+	 * Counts the subtree of one root move.
+	 */
+	private static class PerftTask<RULES extends CheckerRules> extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = -2709355512286046921L;
+
+		private final Searcher<RULES> searcher;
+		private final long move;
+		private final int depth;
+
+		PerftTask(Searcher<RULES> searcher, long move, int depth) {
+			this.searcher = searcher;
+			this.move = move;
+			this.depth = depth;
+		}
+
+		@Override
+		protected Long compute() {
+			return searcher.perft(0, move, depth);
+		}
+	}
+
+	/**
+	 * Single threaded copy-make search over preallocated games and move buffers,
+	 * one per ply.
+	 */
+	private static class Searcher<RULES extends CheckerRules> {
+
+		private final CheckerGame<RULES>[] games;
+		private final long[][] moves;
+		private final int[] packed;
+		private final PerftTable table;
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Searcher(CheckerGame<RULES> game, int depth, PerftTable table) {
+			this.table = table;
+
+			games = new CheckerGame[depth + 1];
+			moves = new long[depth + 1][game.getMaxMoves()];
+
+			for (int i = 0; i <= depth; i++) {
+				games[i] = game.copy();
+			}
+
+			packed = table == null ? null : game.getPackedState();
+		}
+
+		/**
+		 * Counts the leaf nodes below the specified move made from the root
+		 * position.
+		 */
+		long perft(int ply, long move, int depth) {
+			CheckerGame<RULES> next = games[ply + 1];
+
+			next.copyFrom(games[ply]);
+
+			int code = next.tryMove(PackedMove.getColour(move), PackedMove.getNumber(move), PackedMove.getToPosition(move));
+			assert code == CheckerGame.MOVE_OK : PackedMove.toString(move);
+
+			int continuation = next.hasTurn() >= 0 ? PackedMove.getToPosition(move) : -1;
+
+			return perft(ply + 1, toMove(next), depth - 1, continuation);
+		}
+
+		/**
+		 * Counts the leaf nodes of the position at the specified ply.
+		 */
+		long perft(int ply, int pieceColour, int depth, int continuation) {
+			if (depth == 0) return 1;
+
+			long[] buf = moves[ply];
+			int count = games[ply].generateMoves(pieceColour, buf);
+
+			if (depth == 1 || count == 0) return count;
+
+			long key = 0;
+			if (table != null) {
+				key = key(games[ply], pieceColour, continuation);
+
+				long nodes = table.get(key, depth);
+				if (nodes != -1) return nodes;
+			}
+
+			long nodes = 0;
+			for (int i = 0; i < count; i++) {
+				nodes += perft(ply, buf[i], depth);
+			}
+
+			if (table != null) table.put(key, depth, nodes);
+
+			return nodes;
+		}
+
+		private int toMove(CheckerGame<RULES> game) {
+			int hasTurn = game.hasTurn();
+
+			return hasTurn >= 0 ? hasTurn : game.getNextPlayer();
+		}
+
+		private long key(CheckerGame<RULES> game, int pieceColour, int continuation) {
+			int size = game.getPackedState(packed);
+
+			long key = PerftTable.mix(((long) pieceColour << 32) | (continuation & 0xFFFFFFFFL));
+			for (int i = 0; i < size; i++) {
+				key ^= PerftTable.mix(packed[i]);
+			}
+
+			return key;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.perft;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Fixed size, always-replace table of subtree node counts keyed by position
+ * hash. Safe for use by many threads without locking: each entry stores the key
+ * XOR'd with its data, so entries torn by concurrent writes fail verification
+ * and are treated as misses.
+ */
+final class PerftTable {
+
+	private static final int DEPTH_BITS = 8;
+	private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+
+	private final long[] keys;
+	private final long[] data;
+	private final int mask;
+
+	/**
+	 * Instantiates a new perft table of 2^bits entries.
+	 *
+	 * @param bits
+	 *          the size of the table as a power of two
+	 */
+	PerftTable(int bits) {
+		assert bits > 0 && bits < 31;
+
+		keys = new long[1 << bits];
+		data = new long[1 << bits];
+		mask = (1 << bits) - 1;
+	}
+
+	/**
+	 * Returns the node count stored for the specified key and depth, -1 if none.
+	 *
+	 * @param key
+	 *          the key
+	 * @param depth
+	 *          the depth
+	 * @return the node count
+	 */
+	long get(long key, int depth) {
+		int idx = (int) key & mask;
+
+		long d = data[idx];
+
+		if ((keys[idx] ^ d) != key || (d & DEPTH_MASK) != depth) return -1;
+
+		return d >>> DEPTH_BITS;
+	}
+
+	/**
+	 * Stores the node count for the specified key and depth.
+	 *
+	 * @param key
+	 *          the key
+	 * @param depth
+	 *          the depth
+	 * @param nodes
+	 *          the node count
+	 */
+	void put(long key, int depth, long nodes) {
+		int idx = (int) key & mask;
+
+		long d = (nodes << DEPTH_BITS) | depth;
+
+		data[idx] = d;
+		keys[idx] = key ^ d;
+	}
+
+	/**
+	 * Mixes the specified value into a well distributed 64 bit hash.
+	 *
+	 * @param value
+	 *          the value
+	 * @return the hash
+	 */
+	static long mix(long value) {
+		long z = value + 0x9E3779B97F4A7C15L;
+
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.playout;
+
+import java.io.Serializable;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The results of a batch of playouts from {@link RandomPlayout}.
+ */
+public class PlayoutStats implements Serializable {
+
+	private static final long serialVersionUID = -5146373850519407216L;
+
+	private long games;
+	private long plies;
+	private long unfinished;
+	private long[] wins;
+	private long nanos;
+
+	/**
+	 * Instantiates a new playout stats.
+	 *
+	 * @param numColours
+	 *          the number of colours
+	 */
+	public PlayoutStats(int numColours) {
+		wins = new long[numColours];
+	}
+
+	/**
+	 * Records a game.
+	 *
+	 * @param plies
+	 *          the number of moves played
+	 * @param winningColour
+	 *          the winning colour, -1 if the game did not finish
+	 */
+	public void addGame(int plies, int winningColour) {
+		games++;
+		this.plies += plies;
+
+		if (winningColour == -1) {
+			unfinished++;
+		} else {
+			wins[winningColour]++;
+		}
+	}
+
+	/**
+	 * Adds the games of the specified stats to these.
+	 *
+	 * @param stats
+	 *          the stats
+	 */
+	public void add(PlayoutStats stats) {
+		games += stats.games;
+		plies += stats.plies;
+		unfinished += stats.unfinished;
+
+		for (int i = 0; i < wins.length; i++) {
+			wins[i] += stats.wins[i];
+		}
+	}
+
+	/**
+	 * Gets the number of games played.
+	 *
+	 * @return the games
+	 */
+	public long getGames() {
+		return games;
+	}
+
+	/**
+	 * Gets the total number of moves played.
+	 *
+	 * @return the plies
+	 */
+	public long getPlies() {
+		return plies;
+	}
+
+	/**
+	 * Gets the number of games abandoned before finishing.
+	 *
+	 * @return the unfinished
+	 */
+	public long getUnfinished() {
+		return unfinished;
+	}
+
+	/**
+	 * Gets the number of games won by the specified colour.
+	 *
+	 * @param colour
+	 *          the colour
+	 * @return the wins
+	 */
+	public long getWins(int colour) {
+		return wins[colour];
+	}
+
+	/**
+	 * Gets the elapsed wall clock time in nanoseconds.
+	 *
+	 * @return the nanos
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	/**
+	 * Sets the elapsed wall clock time in nanoseconds.
+	 *
+	 * @param nanos
+	 *          the new nanos
+	 */
+	public void setNanos(long nanos) {
+		this.nanos = nanos;
+	}
+
+	/**
+	 * Gets the games per second.
+	 *
+	 * @return the games per second
+	 */
+	public double getGamesPerSecond() {
+		return nanos == 0 ? 0 : games * 1e9 / nanos;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(games).append(" games, ").append(plies).append(" moves, ");
+		for (int i = 0; i < wins.length; i++) {
+			sb.append(wins[i]).append(" won by ").append(i).append(", ");
+		}
+		sb.append(unfinished).append(" unfinished, ");
+		sb.append(String.format("%.1f", getGamesPerSecond())).append(" games/sec");
+
+		return sb.toString();
+	}
+}
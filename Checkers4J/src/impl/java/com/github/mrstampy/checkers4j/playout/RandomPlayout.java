@@ -0,0 +1,244 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.playout;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.api.CheckerGame.GameState;
+import com.github.mrstampy.checkers4j.api.CheckerRules;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Plays games from a given position to their end by choosing uniformly among
+ * the legal moves of the colour to move, using
+ * {@link CheckerGame#generateMoves(int, long[])} and
+ * {@link CheckerGame#tryMove(int, int, int)} so no exceptions are created.
+ * Games still in progress after {@link #getMaxPlies()} moves are abandoned and
+ * counted as unfinished.<br>
+ * <br>
+ * The parallel mode splits the games across a fork join pool, each task playing
+ * on its own copy of the game with its own {@link SplittableRandom} split from
+ * the seed, so its results for a given seed do not depend upon the size of the
+ * pool or the scheduling of tasks.
+ *
+ * @param <RULES>
+ *          the generic type
+ */
+public class RandomPlayout<RULES extends CheckerRules> {
+
+	/** The default maximum number of moves per game. */
+	public static final int DEFAULT_MAX_PLIES = 500;
+
+	private static final int GAMES_PER_TASK = 16;
+
+	private final CheckerGame<RULES> initial;
+	private final int firstColour;
+
+	private int maxPlies = DEFAULT_MAX_PLIES;
+
+	/**
+	 * Instantiates a new random playout from the current position of the
+	 * specified game, which is never modified. If no colour has yet moved the
+	 * specified colour moves first.
+	 *
+	 * @param initial
+	 *          the initial position
+	 * @param firstColour
+	 *          the colour to move first if no colour has yet moved
+	 */
+	public RandomPlayout(CheckerGame<RULES> initial, int firstColour) {
+		assert initial.getRules().isValidPieceColour(firstColour);
+
+		this.initial = initial.copy();
+		this.firstColour = firstColour;
+	}
+
+	/**
+	 * Plays the specified number of games on the calling thread.
+	 *
+	 * @param games
+	 *          the number of games
+	 * @param seed
+	 *          the seed
+	 * @return the stats
+	 */
+	public PlayoutStats play(int games, long seed) {
+		long start = System.nanoTime();
+
+		PlayoutStats stats = new Playouts(games, new SplittableRandom(seed), false).compute();
+
+		stats.setNanos(System.nanoTime() - start);
+
+		return stats;
+	}
+
+	/**
+	 * Plays the specified number of games on the common fork join pool.
+	 *
+	 * @param games
+	 *          the number of games
+	 * @param seed
+	 *          the seed
+	 * @return the stats
+	 */
+	public PlayoutStats parallelPlay(int games, long seed) {
+		return parallelPlay(games, seed, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Plays the specified number of games on the specified pool.
+	 *
+	 * @param games
+	 *          the number of games
+	 * @param seed
+	 *          the seed
+	 * @param pool
+	 *          the pool
+	 * @return the stats
+	 */
+	public PlayoutStats parallelPlay(int games, long seed, ForkJoinPool pool) {
+		long start = System.nanoTime();
+
+		PlayoutStats stats = pool.invoke(new Playouts(games, new SplittableRandom(seed), true));
+
+		stats.setNanos(System.nanoTime() - start);
+
+		return stats;
+	}
+
+	/**
+	 * Plays a single game from the specified position to its end or
+	 * {@link #getMaxPlies()}, modifying the game.
+	 *
+	 * @param game
+	 *          the game
+	 * @param random
+	 *          the random
+	 * @param moves
+	 *          the move buffer, of at least {@link CheckerGame#getMaxMoves()}
+	 * @return the number of moves played
+	 */
+	public int playout(CheckerGame<RULES> game, SplittableRandom random, long[] moves) {
+		int colour = toMove(game);
+
+		int plies = 0;
+		while (plies < maxPlies) {
+			int count = game.generateMoves(colour, moves);
+			if (count == 0) break;
+
+			long move = moves[random.nextInt(count)];
+
+			int code = game.tryMove(PackedMove.getColour(move), PackedMove.getNumber(move), PackedMove.getToPosition(move));
+			assert code == CheckerGame.MOVE_OK : PackedMove.toString(move);
+
+			plies++;
+
+			colour = toMove(game);
+		}
+
+		return plies;
+	}
+
+	private int toMove(CheckerGame<RULES> game) {
+		int hasTurn = game.hasTurn();
+		if (hasTurn >= 0) return hasTurn;
+
+		int next = game.getNextPlayer();
+
+		return next == -1 ? firstColour : next;
+	}
+
+	/**
+	 * Gets the maximum number of moves per game.
+	 *
+	 * @return the max plies
+	 */
+	public int getMaxPlies() {
+		return maxPlies;
+	}
+
+	/**
+	 * Sets the maximum number of moves per game.
+	 *
+	 * @param maxPlies
+	 *          the new max plies
+	 */
+	public void setMaxPlies(int maxPlies) {
+		assert maxPlies > 0;
+
+		this.maxPlies = maxPlies;
+	}
+
+	/**
+	 * Plays a number of games, splitting in two until few enough remain.
+	 */
+	private class Playouts extends RecursiveTask<PlayoutStats> {
+
+		private static final long serialVersionUID = 2926487400562519218L;
+
+		private final int games;
+		private final SplittableRandom random;
+		private final boolean parallel;
+
+		Playouts(int games, SplittableRandom random, boolean parallel) {
+			this.games = games;
+			this.random = random;
+			this.parallel = parallel;
+		}
+
+		@Override
+		protected PlayoutStats compute() {
+			if (parallel && games > GAMES_PER_TASK) return split();
+
+			PlayoutStats stats = new PlayoutStats(initial.getRules().getValidColours().length);
+
+			CheckerGame<RULES> game = initial.copy();
+			long[] moves = new long[game.getMaxMoves()];
+
+			for (int i = 0; i < games; i++) {
+				game.copyFrom(initial);
+
+				int plies = playout(game, random, moves);
+
+				boolean finished = GameState.FINISHED == game.getGameState();
+				stats.addGame(plies, finished ? game.getWinningColour() : -1);
+			}
+
+			return stats;
+		}
+
+		private PlayoutStats split() {
+			int half = games / 2;
+
+			Playouts left = new Playouts(half, random.split(), true);
+			Playouts right = new Playouts(games - half, random, true);
+
+			left.fork();
+
+			PlayoutStats stats = right.compute();
+			stats.add(left.join());
+
+			return stats;
+		}
+	}
+}
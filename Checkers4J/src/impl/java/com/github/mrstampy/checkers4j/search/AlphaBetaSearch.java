@@ -0,0 +1,677 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.mrstampy.checkers4j.Piece;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+import com.github.mrstampy.checkers4j.standard.BitCheckerBoard;
+import com.github.mrstampy.checkers4j.standard.Bitboard;
+import com.github.mrstampy.checkers4j.standard.CheckerBoard;
+import com.github.mrstampy.checkers4j.standard.MultiWordCheckerBoard;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerRules;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Negamax alpha-beta search of a {@link StandardCheckerGame} with iterative
+ * deepening, principal variation search, a {@link TranspositionTable},
+ * killer and history move ordering and a quiescence search of captures.<br>
+ * <br>
+ * The search runs on its own copy of the game, playing moves in place with
+ * {@link StandardCheckerGame#makeGeneratedMove(long)} and
+ * {@link StandardCheckerGame#unmakeMove()}; the game passed in is never
+ * modified. Each ply of a multi jump is searched as a move of the same side
+ * without reducing the depth, so positions are never evaluated mid jump.<br>
+ * <br>
+ * Positions are evaluated from the population counts of the game's bitboards.
+ * Throughput is bounded by the piece based move generation and make/unmake of
+ * {@link StandardCheckerGame}, which account for most of the time per node;
+ * around 1.3 million nodes per second on 8x8. Tens of millions are not
+ * reachable without generating and making moves on the bitboards directly.<br>
+ * <br>
+ * Instances are not thread safe other than {@link #stop()}; searches in
+ * several threads require an instance per thread, which may share a
+ * transposition table.
+ */
+public class AlphaBetaSearch {
+
+	/** The score of a won position, less the plies to the win. */
+	public static final int WIN = 30000;
+
+	/** The maximum number of plies searched from the root. */
+	public static final int MAX_PLY = 128;
+
+	/** The value of an uncrowned piece. */
+	public static final int MAN_VALUE = 100;
+
+	/** The value of a kinged piece. */
+	public static final int KING_VALUE = 160;
+
+	/** The value of each row an uncrowned piece has advanced. */
+	public static final int ADVANCE_VALUE = 3;
+
+	/** The default size of the transposition table as a power of two. */
+	public static final int DEFAULT_TABLE_BITS = 20;
+
+	private static final int INFINITY = WIN + 1;
+
+	private static final long TIME_CHECK_NODES = 0xFFF;
+
+	private static final int HISTORY_BITS = 16;
+	private static final int HISTORY_MAX = 1 << 24;
+
+	private static final int TT_MOVE_ORDER = 1 << 30;
+	private static final int CAPTURE_ORDER = 1 << 29;
+	private static final int PROMOTION_ORDER = 1 << 28;
+	private static final int KILLER_ORDER = 1 << 27;
+
+	private final TranspositionTable table;
+
+	private StandardCheckerGame game;
+	private int boardSquares;
+
+	// bit k of the row of each square of the board last evaluated, see
+	// evaluateWord
+	private long[][] rowPlanes;
+	private int planesWidth;
+	private int lastRow;
+
+	private long[][] moves;
+	private int[][] order;
+
+	private final long[][] killers = new long[MAX_PLY + 1][2];
+	private final int[] history = new int[1 << HISTORY_BITS];
+
+	private final long[][] pv = new long[MAX_PLY + 1][MAX_PLY + 1];
+	private final int[] pvLength = new int[MAX_PLY + 1];
+	private final long[] hashes = new long[MAX_PLY + 1];
+
+	private long nodes;
+	private long deadline;
+	private volatile boolean stopped;
+
+	/**
+	 * Instantiates a new alpha beta search with its own transposition table of
+	 * 2^{@link #DEFAULT_TABLE_BITS} entries.
+	 */
+	public AlphaBetaSearch() {
+		this(new TranspositionTable(DEFAULT_TABLE_BITS));
+	}
+
+	/**
+	 * Instantiates a new alpha beta search using the specified, possibly shared,
+	 * transposition table.
+	 *
+	 * @param table
+	 *          the table
+	 */
+	public AlphaBetaSearch(TranspositionTable table) {
+		this.table = table;
+	}
+
+	/**
+	 * Searches to the specified depth for the best move of the specified colour.
+	 *
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param maxDepth
+	 *          the maximum depth, from 1 to {@link #MAX_PLY}
+	 * @return the result
+	 */
+	public SearchResult search(StandardCheckerGame game, int pieceColour, int maxDepth) {
+		return search(game, pieceColour, maxDepth, 0);
+	}
+
+	/**
+	 * Searches by iterative deepening for the best move of the specified colour
+	 * until the specified depth is reached, the time allowed is exceeded or
+	 * {@link #stop()} is invoked. The result is that of the last completed
+	 * iteration. Should the first iteration be interrupted the result is of
+	 * depth 0 and score 0, its only move the best found so far.
+	 *
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param maxDepth
+	 *          the maximum depth, from 1 to {@link #MAX_PLY}
+	 * @param timeMillis
+	 *          the time allowed, 0 for no limit
+	 * @return the result
+	 */
+	public SearchResult search(StandardCheckerGame game, int pieceColour, int maxDepth, long timeMillis) {
+		long start = System.nanoTime();
+		long deadline = timeMillis == 0 ? 0 : start + timeMillis * 1000000;
+
+		table.newSearch();
+		stopped = false;
+
+		SearchResult result = iterate(game, pieceColour, maxDepth, 0, 0, deadline, start);
+
+		return result == null ? interrupted(pieceColour, start) : result;
+	}
+
+	/**
+	 * Stops the search in progress; may be invoked from any thread.
+	 */
+	public void stop() {
+		stopped = true;
+	}
+
+	/**
+	 * Returns the number of nodes searched by the search in progress or last
+	 * completed.
+	 *
+	 * @return the nodes
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * Returns true if the score is that of a won or lost position.
+	 *
+	 * @param score
+	 *          the score
+	 * @return true, if is win score
+	 */
+	public static boolean isWinScore(int score) {
+		return Math.abs(score) >= WIN - MAX_PLY;
+	}
+
+	/**
+	 * Clears any request to stop, in preparation for {@link #iterate}.
+	 */
+	void clearStop() {
+		stopped = false;
+	}
+
+	/**
+	 * Iterative deepening to the maximum depth until the deadline (in terms of
+	 * {@link System#nanoTime()}, 0 for none) or {@link #stop()}, returning the
+	 * result of the last iteration completed or null if none was. If the skip
+	 * size is greater than 0 the depths for which (depth + skipPhase) / skipSize
+	 * is odd are skipped, staggering the depths of parallel searches.
+	 */
+	SearchResult iterate(StandardCheckerGame game, int pieceColour, int maxDepth, int skipSize, int skipPhase,
+			long deadline, long start) {
+		assert maxDepth > 0 && maxDepth <= MAX_PLY && skipSize >= 0;
+
+		prepare(game);
+
+		this.deadline = deadline;
+		nodes = 0;
+
+		SearchResult result = null;
+		for (int depth = 1; depth <= maxDepth; depth++) {
+			if (skipSize > 0 && ((depth + skipPhase) / skipSize) % 2 != 0) continue;
+
+			int score = search(pieceColour, depth, -INFINITY, INFINITY, 0);
+
+			if (stopped) break;
+
+			long[] line = Arrays.copyOf(pv[0], pvLength[0]);
+			result = new SearchResult(line, score, depth, nodes, System.nanoTime() - start);
+
+			if (isWinScore(score)) break;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the result of a search stopped before any iteration completed: of
+	 * depth 0 and score 0, its only move the best of the interrupted iteration
+	 * or, if none was found, the first generated.
+	 */
+	SearchResult interrupted(int pieceColour, long start) {
+		long[] line;
+		if (pvLength[0] > 0) {
+			line = new long[] { pv[0][0] };
+		} else if (game.generateMoves(pieceColour, moves[0]) > 0) {
+			line = new long[] { moves[0][0] };
+		} else {
+			line = new long[0];
+		}
+
+		return new SearchResult(line, 0, 0, nodes, System.nanoTime() - start);
+	}
+
+	/**
+	 * Returns the static evaluation of the position from the point of view of the
+	 * specified colour: the value of its pieces less those of its opponent.
+	 * Evaluated by population counts of the game's bitboards if it has them, else
+	 * piece by piece. Override to improve.
+	 *
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the piece colour
+	 * @return the score, well within +/- {@link #WIN} - {@link #MAX_PLY}
+	 */
+	protected int evaluate(StandardCheckerGame game, int pieceColour) {
+		CheckerBoard board = game.getBoard();
+
+		if (board.getWidth() != planesWidth || board.getHeight() != lastRow + 1) createRowPlanes(board);
+
+		int score;
+		if (board instanceof BitCheckerBoard) {
+			BitCheckerBoard bits = (BitCheckerBoard) board;
+			score = evaluateWord(bits.getWhite(), bits.getBlack(), bits.getKings(), 0);
+		} else if (board instanceof MultiWordCheckerBoard) {
+			score = evaluateWords((MultiWordCheckerBoard) board);
+		} else {
+			score = evaluatePieces(game);
+		}
+
+		return pieceColour == WHITE_NUM ? score : -score;
+	}
+
+	private int evaluateWords(MultiWordCheckerBoard board) {
+		Bitboard white = board.getWhite();
+		Bitboard black = board.getBlack();
+		Bitboard kings = board.getKings();
+
+		int score = 0;
+		for (int i = 0; i < white.getWordCount(); i++) {
+			score += evaluateWord(white.getWord(i), black.getWord(i), kings.getWord(i), i);
+		}
+
+		return score;
+	}
+
+	// white's score of one word of the bitboards; the rows advanced by the men are
+	// summed a bit of the row number at a time
+	private int evaluateWord(long white, long black, long kings, int word) {
+		long whiteMen = white & ~kings;
+		long blackMen = black & ~kings;
+
+		int blackMenCount = Long.bitCount(blackMen);
+
+		int score = MAN_VALUE * (Long.bitCount(whiteMen) - blackMenCount);
+		score += KING_VALUE * (Long.bitCount(white & kings) - Long.bitCount(black & kings));
+
+		int rows = -lastRow * blackMenCount;
+		for (int k = 0; k < rowPlanes.length; k++) {
+			long plane = rowPlanes[k][word];
+			rows += (Long.bitCount(whiteMen & plane) + Long.bitCount(blackMen & plane)) << k;
+		}
+
+		return score + ADVANCE_VALUE * rows;
+	}
+
+	private int evaluatePieces(StandardCheckerGame game) {
+		StandardCheckerRules rules = game.getRules();
+		int lastRow = rules.getBoardHeight() - 1;
+
+		List<Piece> pieces = game.getFullState();
+
+		int score = 0;
+		for (int i = 0; i < pieces.size(); i++) {
+			Piece p = pieces.get(i);
+			if (p.isJumped()) continue;
+
+			int value;
+			if (p.isKinged()) {
+				value = KING_VALUE;
+			} else {
+				int y = rules.getCompactY(rules.toCompactIndex(p.getPosition()));
+				value = MAN_VALUE + ADVANCE_VALUE * (p.getColour() == WHITE_NUM ? y : lastRow - y);
+			}
+
+			score += p.getColour() == WHITE_NUM ? value : -value;
+		}
+
+		return score;
+	}
+
+	private void createRowPlanes(CheckerBoard board) {
+		int width = board.getWidth();
+		int squares = width * board.getHeight();
+
+		planesWidth = width;
+		lastRow = board.getHeight() - 1;
+		rowPlanes = new long[Integer.SIZE - Integer.numberOfLeadingZeros(lastRow)][(squares + Long.SIZE - 1) / Long.SIZE];
+
+		for (int n = 0; n < squares; n++) {
+			int y = n / width;
+
+			for (int k = 0; k < rowPlanes.length; k++) {
+				if (((y >>> k) & 1) != 0) rowPlanes[k][n >>> 6] |= 1L << n;
+			}
+		}
+	}
+
+	private void prepare(StandardCheckerGame game) {
+		this.game = game.copy();
+
+		StandardCheckerRules rules = game.getRules();
+		boardSquares = rules.getBoardWidth() * rules.getBoardHeight();
+
+		int maxMoves = game.getMaxMoves();
+		if (moves == null || moves[0].length != maxMoves) {
+			moves = new long[MAX_PLY + 1][maxMoves];
+			order = new int[MAX_PLY + 1][maxMoves];
+		}
+
+		for (long[] k : killers) {
+			Arrays.fill(k, PackedMove.NO_MOVE);
+		}
+
+		for (int i = 0; i < history.length; i++) {
+			history[i] >>= 2;
+		}
+	}
+
+	private int search(int colour, int depth, int alpha, int beta, int ply) {
+		pvLength[ply] = ply;
+
+		if (ply == 0) {
+			hashes[0] = game.getZobristHash();
+		} else if (isRepetition(ply)) {
+			return 0;
+		}
+
+		if (depth <= 0) return quiesce(colour, alpha, beta, ply);
+
+		if (countNode()) return 0;
+
+		if (ply == MAX_PLY) return evaluate(game, colour);
+
+		boolean pvNode = beta - alpha > 1;
+
+		long key = hashes[ply];
+		long data = table.probe(key);
+
+		int ttMove = 0;
+		if (data != 0) {
+			ttMove = TranspositionTable.getMove(data);
+
+			if (!pvNode && TranspositionTable.getDepth(data) >= depth) {
+				int score = fromTable(TranspositionTable.getScore(data), ply);
+
+				switch (TranspositionTable.getBound(data)) {
+				case TranspositionTable.EXACT:
+					return score;
+				case TranspositionTable.LOWER_BOUND:
+					if (score >= beta) return score;
+					break;
+				case TranspositionTable.UPPER_BOUND:
+					if (score <= alpha) return score;
+					break;
+				}
+			}
+		}
+
+		long[] buf = moves[ply];
+		int count = game.generateMoves(colour, buf);
+
+		if (count == 0) return -WIN + ply;
+
+		orderMoves(ply, count, ttMove);
+
+		int originalAlpha = alpha;
+		int best = -INFINITY;
+		long bestMove = PackedMove.NO_MOVE;
+
+		for (int i = 0; i < count; i++) {
+			long move = nextMove(ply, i, count);
+
+			int score = searchMove(colour, move, depth, alpha, beta, ply, i == 0);
+			if (stopped) return 0;
+
+			if (score <= best) continue;
+
+			best = score;
+			bestMove = move;
+
+			if (score <= alpha) continue;
+
+			alpha = score;
+			updatePv(ply, move);
+
+			if (score >= beta) {
+				if (!PackedMove.isCapture(move)) updateOrdering(ply, move, depth);
+				break;
+			}
+		}
+
+		//@formatter:off
+		int bound = best >= beta ? TranspositionTable.LOWER_BOUND : 
+			best > originalAlpha ? TranspositionTable.EXACT : 
+			TranspositionTable.UPPER_BOUND;
+		//@formatter:on
+
+		table.store(key, Math.min(depth, TranspositionTable.MAX_DEPTH), bound, toTable(best, ply),
+				TranspositionTable.compressMove(bestMove));
+
+		return best;
+	}
+
+	private int searchMove(int colour, long move, int depth, int alpha, int beta, int ply, boolean first) {
+		game.makeGeneratedMove(move);
+
+		hashes[ply + 1] = game.getZobristHash();
+
+		int next = toMove();
+		int childDepth = next == colour ? depth : depth - 1;
+
+		int score;
+		if (first) {
+			score = child(next, colour, childDepth, alpha, beta, ply);
+		} else {
+			score = child(next, colour, childDepth, alpha, alpha + 1, ply);
+
+			if (score > alpha && score < beta && !stopped) score = child(next, colour, childDepth, alpha, beta, ply);
+		}
+
+		game.unmakeMove();
+
+		return score;
+	}
+
+	private int child(int next, int colour, int depth, int alpha, int beta, int ply) {
+		return next == colour ? search(next, depth, alpha, beta, ply + 1) : -search(next, depth, -beta, -alpha, ply + 1);
+	}
+
+	private int quiesce(int colour, int alpha, int beta, int ply) {
+		pvLength[ply] = ply;
+
+		if (countNode()) return 0;
+
+		long[] buf = moves[ply];
+		int count = game.generateMoves(colour, buf);
+
+		// mid jump the turn must continue, so there is no standing pat
+		boolean jumping = game.hasTurn() == colour;
+
+		if (count == 0) return jumping ? evaluate(game, colour) : -WIN + ply;
+
+		int best = -INFINITY;
+		if (!jumping || ply == MAX_PLY) {
+			best = evaluate(game, colour);
+
+			if (best >= beta || ply == MAX_PLY) return best;
+			if (best > alpha) alpha = best;
+		}
+
+		for (int i = 0; i < count; i++) {
+			long move = buf[i];
+			if (!PackedMove.isCapture(move)) continue;
+
+			game.makeGeneratedMove(move);
+
+			hashes[ply + 1] = game.getZobristHash();
+
+			int next = toMove();
+			int score = next == colour ? quiesce(next, alpha, beta, ply + 1) : -quiesce(next, -beta, -alpha, ply + 1);
+
+			game.unmakeMove();
+
+			if (stopped) return 0;
+
+			if (score <= best) continue;
+
+			best = score;
+
+			if (score <= alpha) continue;
+
+			alpha = score;
+			updatePv(ply, move);
+
+			if (score >= beta) break;
+		}
+
+		return best;
+	}
+
+	private boolean countNode() {
+		nodes++;
+
+		if ((nodes & TIME_CHECK_NODES) == 0 && deadline != 0 && System.nanoTime() - deadline > 0) stopped = true;
+
+		return stopped;
+	}
+
+	private boolean isRepetition(int ply) {
+		long hash = hashes[ply];
+
+		for (int i = ply - 1; i >= 0; i--) {
+			if (hashes[i] == hash) return true;
+		}
+
+		return false;
+	}
+
+	private int toMove() {
+		int hasTurn = game.hasTurn();
+
+		return hasTurn >= 0 ? hasTurn : game.getNextPlayer();
+	}
+
+	private void orderMoves(int ply, int count, int ttMove) {
+		long[] buf = moves[ply];
+		int[] ord = order[ply];
+
+		long killer0 = killers[ply][0];
+		long killer1 = killers[ply][1];
+
+		for (int i = 0; i < count; i++) {
+			long move = buf[i];
+
+			int o;
+			if (ttMove != 0 && TranspositionTable.compressMove(move) == ttMove) {
+				o = TT_MOVE_ORDER;
+			} else if (PackedMove.isCapture(move)) {
+				o = CAPTURE_ORDER + (PackedMove.isPromotion(move) ? 1 : 0);
+			} else if (PackedMove.isPromotion(move)) {
+				o = PROMOTION_ORDER;
+			} else if (move == killer0) {
+				o = KILLER_ORDER + 1;
+			} else if (move == killer1) {
+				o = KILLER_ORDER;
+			} else {
+				o = history[historyIndex(move)];
+			}
+
+			ord[i] = o;
+		}
+	}
+
+	private long nextMove(int ply, int i, int count) {
+		long[] buf = moves[ply];
+		int[] ord = order[ply];
+
+		int best = i;
+		for (int j = i + 1; j < count; j++) {
+			if (ord[j] > ord[best]) best = j;
+		}
+
+		if (best != i) {
+			long move = buf[best];
+			buf[best] = buf[i];
+			buf[i] = move;
+
+			int o = ord[best];
+			ord[best] = ord[i];
+			ord[i] = o;
+		}
+
+		return buf[i];
+	}
+
+	private void updateOrdering(int ply, long move, int depth) {
+		if (killers[ply][0] != move) {
+			killers[ply][1] = killers[ply][0];
+			killers[ply][0] = move;
+		}
+
+		int idx = historyIndex(move);
+
+		history[idx] += depth * depth;
+
+		if (history[idx] > HISTORY_MAX) {
+			for (int i = 0; i < history.length; i++) {
+				history[i] >>= 1;
+			}
+		}
+	}
+
+	private int historyIndex(long move) {
+		int from = PackedMove.getFromPosition(move);
+		int to = PackedMove.getToPosition(move);
+
+		return (from * boardSquares + to) & ((1 << HISTORY_BITS) - 1);
+	}
+
+	private void updatePv(int ply, long move) {
+		long[] line = pv[ply];
+		long[] childLine = pv[ply + 1];
+
+		line[ply] = move;
+
+		int length = pvLength[ply + 1];
+		for (int i = ply + 1; i < length; i++) {
+			line[i] = childLine[i];
+		}
+
+		pvLength[ply] = Math.max(length, ply + 1);
+	}
+
+	private static int toTable(int score, int ply) {
+		if (score >= WIN - MAX_PLY) return score + ply;
+		if (score <= -WIN + MAX_PLY) return score - ply;
+
+		return score;
+	}
+
+	private static int fromTable(int score, int ply) {
+		if (score >= WIN - MAX_PLY) return score - ply;
+		if (score <= -WIN + MAX_PLY) return score + ply;
+
+		return score;
+	}
+}
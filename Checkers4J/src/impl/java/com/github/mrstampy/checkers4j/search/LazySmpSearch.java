@@ -0,0 +1,270 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Parallel {@link AlphaBetaSearch} in the Lazy SMP style: the calling thread
+ * and a number of helper threads each search the position by iterative
+ * deepening on their own copy of the game, sharing only a
+ * {@link TranspositionTable}. Each helper skips a different pattern of depths,
+ * so that at any time the threads are spread over the current iteration and
+ * those following it, filling the table with the results the calling thread is
+ * about to need.<br>
+ * <br>
+ * The search ends when the calling thread completes its final iteration, the
+ * time allowed is exceeded or {@link #stop()} is invoked. The result is that
+ * of the deepest completed iteration of any thread; its node count and nodes
+ * per second are those of all threads.<br>
+ * <br>
+ * Helper threads are daemons kept for the life of the instance; invoke
+ * {@link #shutdown()} when it is no longer required. Instances are not thread
+ * safe other than {@link #stop()}.
+ */
+public class LazySmpSearch {
+
+	//@formatter:off
+	private static final int[] SKIP_SIZE = { 1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4 };
+	private static final int[] SKIP_PHASE = { 0, 1, 0, 1, 2, 3, 0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 6, 7 };
+	//@formatter:on
+
+	private final TranspositionTable table;
+	private final AlphaBetaSearch[] searches;
+	private final ExecutorService helpers;
+
+	/**
+	 * Instantiates a new lazy SMP search with the specified number of threads,
+	 * including the calling thread, and a transposition table of 2^
+	 * {@link AlphaBetaSearch#DEFAULT_TABLE_BITS} entries.
+	 *
+	 * @param threads
+	 *          the threads
+	 */
+	public LazySmpSearch(int threads) {
+		this(threads, new TranspositionTable(AlphaBetaSearch.DEFAULT_TABLE_BITS));
+	}
+
+	/**
+	 * Instantiates a new lazy SMP search with the specified number of threads,
+	 * including the calling thread, sharing the specified transposition table.
+	 *
+	 * @param threads
+	 *          the threads
+	 * @param table
+	 *          the table
+	 */
+	public LazySmpSearch(int threads, TranspositionTable table) {
+		if (threads < 1) throw new IllegalArgumentException("At least one thread is required: " + threads);
+
+		this.table = table;
+
+		searches = new AlphaBetaSearch[threads];
+		for (int i = 0; i < threads; i++) {
+			searches[i] = new AlphaBetaSearch(table);
+		}
+
+		helpers = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, new HelperFactory());
+	}
+
+	/**
+	 * Searches to the specified depth for the best move of the specified colour.
+	 *
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param maxDepth
+	 *          the maximum depth, from 1 to {@link AlphaBetaSearch#MAX_PLY}
+	 * @return the result
+	 */
+	public SearchResult search(StandardCheckerGame game, int pieceColour, int maxDepth) {
+		return search(game, pieceColour, maxDepth, 0);
+	}
+
+	/**
+	 * Searches with all threads until the calling thread reaches the specified
+	 * depth, the time allowed is exceeded or {@link #stop()} is invoked.
+	 *
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param maxDepth
+	 *          the maximum depth, from 1 to {@link AlphaBetaSearch#MAX_PLY}
+	 * @param timeMillis
+	 *          the time allowed, 0 for no limit
+	 * @return the result
+	 * @see AlphaBetaSearch#search(StandardCheckerGame, int, int, long)
+	 */
+	public SearchResult search(StandardCheckerGame game, int pieceColour, int maxDepth, long timeMillis) {
+		long start = System.nanoTime();
+		long deadline = timeMillis == 0 ? 0 : start + timeMillis * 1000000;
+
+		table.newSearch();
+
+		for (AlphaBetaSearch s : searches) {
+			s.clearStop();
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Future<SearchResult>[] futures = new Future[searches.length];
+
+		for (int i = 1; i < searches.length; i++) {
+			AlphaBetaSearch helper = searches[i];
+			int skip = (i - 1) % SKIP_SIZE.length;
+
+			//@formatter:off
+			futures[i] = helpers.submit(() -> helper.iterate(
+					game, 
+					pieceColour, 
+					AlphaBetaSearch.MAX_PLY, 
+					SKIP_SIZE[skip], 
+					SKIP_PHASE[skip], 
+					deadline, 
+					start));
+			//@formatter:on
+		}
+
+		SearchResult[] results = new SearchResult[searches.length];
+
+		try {
+			results[0] = searches[0].iterate(game, pieceColour, maxDepth, 0, 0, deadline, start);
+			if (results[0] == null) results[0] = searches[0].interrupted(pieceColour, start);
+		} finally {
+			stopHelpers();
+			await(futures, results);
+		}
+
+		return merge(results, System.nanoTime() - start);
+	}
+
+	/**
+	 * Stops the search in progress; may be invoked from any thread.
+	 */
+	public void stop() {
+		for (AlphaBetaSearch s : searches) {
+			s.stop();
+		}
+	}
+
+	/**
+	 * Stops the helper threads once any search in progress is complete. The
+	 * instance cannot search with more than one thread thereafter.
+	 */
+	public void shutdown() {
+		if (helpers != null) helpers.shutdown();
+	}
+
+	/**
+	 * Returns the number of threads searching, including the calling thread.
+	 *
+	 * @return the threads
+	 */
+	public int getThreads() {
+		return searches.length;
+	}
+
+	/**
+	 * Searches the position to the specified depth first with one thread then
+	 * with all threads, each starting from an empty transposition table, and
+	 * reports the speedup.
+	 *
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param depth
+	 *          the depth
+	 * @return the speedup report
+	 */
+	public SpeedupReport measureSpeedup(StandardCheckerGame game, int pieceColour, int depth) {
+		table.clear();
+		SearchResult single = searches[0].search(game, pieceColour, depth);
+
+		table.clear();
+		SearchResult parallel = search(game, pieceColour, depth);
+
+		return new SpeedupReport(searches.length, single, parallel);
+	}
+
+	private void stopHelpers() {
+		for (int i = 1; i < searches.length; i++) {
+			searches[i].stop();
+		}
+	}
+
+	private void await(Future<SearchResult>[] futures, SearchResult[] results) {
+		boolean interrupted = false;
+
+		for (int i = 1; i < futures.length; i++) {
+			while (true) {
+				try {
+					results[i] = futures[i].get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException e) {
+					throw new IllegalStateException("Helper search failed", e.getCause());
+				}
+			}
+		}
+
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	private SearchResult merge(SearchResult[] results, long nanos) {
+		SearchResult best = results[0];
+		long nodes = 0;
+
+		for (int i = 0; i < results.length; i++) {
+			nodes += searches[i].getNodes();
+
+			// helpers which completed no iteration have no result
+			SearchResult r = results[i];
+			if (r != null && r.getDepth() > best.getDepth()) best = r;
+		}
+
+		return new SearchResult(best.getPrincipalVariation(), best.getScore(), best.getDepth(), nodes, nanos);
+	}
+
+	/**
+	 * Creates the daemon helper threads.
+	 */
+	private static class HelperFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "Lazy SMP helper " + count.incrementAndGet());
+			t.setDaemon(true);
+
+			return t;
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import java.io.Serializable;
+
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The visit statistics of the moves from the root position of an
+ * {@link MctsSearch}, ordered from most to least visited.
+ */
+public class MctsResult implements Serializable {
+
+	private static final long serialVersionUID = 4418529061877035726L;
+
+	private long[] moves;
+	private int[] visits;
+	private long[] wins;
+	private long iterations;
+	private int nodes;
+	private long nanos;
+
+	/**
+	 * Instantiates a new MCTS result.
+	 *
+	 * @param moves
+	 *          the root moves
+	 * @param visits
+	 *          the visits of each move
+	 * @param wins
+	 *          the wins of each move in half points, a draw scoring one
+	 * @param iterations
+	 *          the iterations completed
+	 * @param nodes
+	 *          the nodes in the tree
+	 * @param nanos
+	 *          the nanos
+	 */
+	public MctsResult(long[] moves, int[] visits, long[] wins, long iterations, int nodes, long nanos) {
+		this.moves = moves;
+		this.visits = visits;
+		this.wins = wins;
+		this.iterations = iterations;
+		this.nodes = nodes;
+		this.nanos = nanos;
+
+		sort();
+	}
+
+	/**
+	 * Gets the most visited move, {@link PackedMove#NO_MOVE} if there are none.
+	 *
+	 * @return the best move
+	 */
+	public long getBestMove() {
+		return moves.length == 0 ? PackedMove.NO_MOVE : moves[0];
+	}
+
+	/**
+	 * Gets the number of root moves.
+	 *
+	 * @return the move count
+	 */
+	public int getMoveCount() {
+		return moves.length;
+	}
+
+	/**
+	 * Gets the root move at the specified index.
+	 *
+	 * @param idx
+	 *          the idx
+	 * @return the move
+	 */
+	public long getMove(int idx) {
+		return moves[idx];
+	}
+
+	/**
+	 * Gets the number of visits of the root move at the specified index.
+	 *
+	 * @param idx
+	 *          the idx
+	 * @return the visits
+	 */
+	public int getVisits(int idx) {
+		return visits[idx];
+	}
+
+	/**
+	 * Gets the mean result of the root move at the specified index for the
+	 * colour making it, from 0 for a certain loss to 1 for a certain win.
+	 *
+	 * @param idx
+	 *          the idx
+	 * @return the score
+	 */
+	public double getScore(int idx) {
+		return visits[idx] == 0 ? 0 : wins[idx] / (2.0 * visits[idx]);
+	}
+
+	/**
+	 * Gets the number of iterations completed.
+	 *
+	 * @return the iterations
+	 */
+	public long getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * Gets the number of nodes in the tree.
+	 *
+	 * @return the nodes
+	 */
+	public int getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * Gets the elapsed time in nanos.
+	 *
+	 * @return the nanos
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	/**
+	 * Gets the iterations per second.
+	 *
+	 * @return the iterations per second
+	 */
+	public double getIterationsPerSecond() {
+		return nanos == 0 ? 0 : iterations * 1e9 / nanos;
+	}
+
+	private void sort() {
+		for (int i = 1; i < moves.length; i++) {
+			long move = moves[i];
+			int visit = visits[i];
+			long win = wins[i];
+
+			int j = i - 1;
+			for (; j >= 0 && visits[j] < visit; j--) {
+				moves[j + 1] = moves[j];
+				visits[j + 1] = visits[j];
+				wins[j + 1] = wins[j];
+			}
+
+			moves[j + 1] = move;
+			visits[j + 1] = visit;
+			wins[j + 1] = win;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(iterations).append(" iterations, ").append(nodes).append(" nodes, ");
+		sb.append(String.format("%.0f", getIterationsPerSecond())).append(" iterations/sec");
+
+		for (int i = 0; i < moves.length; i++) {
+			sb.append("\n").append(PackedMove.getFromPosition(moves[i])).append(PackedMove.isCapture(moves[i]) ? 'x' : '-')
+					.append(PackedMove.getToPosition(moves[i]));
+			sb.append(": ").append(visits[i]).append(" visits, score ").append(String.format("%.3f", getScore(i)));
+		}
+
+		return sb.toString();
+	}
+}
@@ -0,0 +1,497 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.api.CheckerGame.GameState;
+import com.github.mrstampy.checkers4j.api.CheckerRules;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Monte Carlo tree search using UCT, for any {@link CheckerGame} including the
+ * 3D variants, where a static evaluation is too weak for
+ * {@link AlphaBetaSearch}.<br>
+ * <br>
+ * The tree is held in primitive and atomic arrays preallocated to the maximum
+ * number of nodes, the children of a node being contiguous, so no objects are
+ * created per node. Once full the tree stops growing and iterations continue to refine the
+ * nodes already present. Each iteration descends the tree by UCT playing the
+ * moves on a copy of the game, expands the leaf reached, plays the game out to
+ * its end with random or {@link #setHeuristicPlayouts(boolean) heuristic}
+ * moves and backs the result up the path. A win scores 1 for the colour which
+ * made the move into a node, a loss 0 and a draw or unfinished game 1/2.<br>
+ * <br>
+ * Iterations run in parallel on a fork join pool, one worker per unit of the
+ * pool's parallelism each with its own copy of the game, updating the shared
+ * tree without locks. Nodes on a worker's path carry a virtual loss until its
+ * result is backed up, steering other workers to different lines.<br>
+ * <br>
+ * Instances are not thread safe other than {@link #stop()}.
+ */
+public class MctsSearch {
+
+	/** The default maximum number of nodes in the tree. */
+	public static final int DEFAULT_MAX_NODES = 1 << 20;
+
+	/** The default UCT exploration constant. */
+	public static final double DEFAULT_EXPLORATION = 1.4;
+
+	/** The default number of visits added to nodes on a worker's path. */
+	public static final int DEFAULT_VIRTUAL_LOSS = 3;
+
+	/** The default maximum number of moves per playout. */
+	public static final int DEFAULT_MAX_PLIES = 200;
+
+	/** The maximum depth of the path descended through the tree. */
+	public static final int MAX_DEPTH = 256;
+
+	private static final int UNEXPANDED = -1;
+	private static final int LEAF = -2;
+
+	private final long[] moves;
+	private final AtomicIntegerArray firstChild;
+	private final int[] childCount;
+	private final AtomicIntegerArray visits;
+	private final AtomicLongArray wins;
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final ForkJoinPool pool;
+	private final SplittableRandom random = new SplittableRandom();
+
+	private double exploration = DEFAULT_EXPLORATION;
+	private int virtualLoss = DEFAULT_VIRTUAL_LOSS;
+	private int maxPlies = DEFAULT_MAX_PLIES;
+	private boolean heuristicPlayouts;
+
+	private volatile boolean stopped;
+
+	/**
+	 * Instantiates a new MCTS search of up to {@link #DEFAULT_MAX_NODES} nodes on
+	 * the common fork join pool.
+	 */
+	public MctsSearch() {
+		this(DEFAULT_MAX_NODES);
+	}
+
+	/**
+	 * Instantiates a new MCTS search of up to the specified number of nodes on
+	 * the common fork join pool.
+	 *
+	 * @param maxNodes
+	 *          the max nodes
+	 */
+	public MctsSearch(int maxNodes) {
+		this(maxNodes, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Instantiates a new MCTS search of up to the specified number of nodes on
+	 * the specified pool.
+	 *
+	 * @param maxNodes
+	 *          the max nodes
+	 * @param pool
+	 *          the pool
+	 */
+	public MctsSearch(int maxNodes, ForkJoinPool pool) {
+		if (maxNodes < 1) throw new IllegalArgumentException("At least one node is required: " + maxNodes);
+
+		moves = new long[maxNodes];
+		firstChild = new AtomicIntegerArray(maxNodes);
+		childCount = new int[maxNodes];
+		visits = new AtomicIntegerArray(maxNodes);
+		wins = new AtomicLongArray(maxNodes);
+
+		this.pool = pool;
+	}
+
+	/**
+	 * Runs the specified number of iterations from the current position of the
+	 * game, which is not modified.
+	 *
+	 * @param <RULES>
+	 *          the generic type
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param iterations
+	 *          the iterations
+	 * @return the visit statistics of the root moves
+	 */
+	public <RULES extends CheckerRules> MctsResult search(CheckerGame<RULES> game, int pieceColour, long iterations) {
+		return search(game, pieceColour, iterations, 0);
+	}
+
+	/**
+	 * Runs iterations from the current position of the game, which is not
+	 * modified, until the specified number are complete, the time allowed is
+	 * exceeded or {@link #stop()} is invoked.
+	 *
+	 * @param <RULES>
+	 *          the generic type
+	 * @param game
+	 *          the game
+	 * @param pieceColour
+	 *          the colour to move
+	 * @param iterations
+	 *          the maximum iterations
+	 * @param timeMillis
+	 *          the time allowed, 0 for no limit
+	 * @return the visit statistics of the root moves
+	 */
+	public <RULES extends CheckerRules> MctsResult search(CheckerGame<RULES> game, int pieceColour, long iterations,
+			long timeMillis) {
+		assert game.getRules().isValidPieceColour(pieceColour);
+
+		long start = System.nanoTime();
+		long deadline = timeMillis == 0 ? 0 : start + timeMillis * 1000000;
+
+		stopped = false;
+
+		clearNode(0, PackedMove.NO_MOVE);
+		size.set(1);
+
+		Context<RULES> context = new Context<>(game.copy(), pieceColour, new AtomicLong(iterations), deadline);
+
+		pool.invoke(new Workers<>(context, pool.getParallelism(), random.split()));
+
+		return result(System.nanoTime() - start);
+	}
+
+	/**
+	 * Stops the search in progress; may be invoked from any thread.
+	 */
+	public void stop() {
+		stopped = true;
+	}
+
+	/**
+	 * Gets the UCT exploration constant.
+	 *
+	 * @return the exploration
+	 */
+	public double getExploration() {
+		return exploration;
+	}
+
+	/**
+	 * Sets the UCT exploration constant.
+	 *
+	 * @param exploration
+	 *          the new exploration
+	 */
+	public void setExploration(double exploration) {
+		assert exploration >= 0;
+
+		this.exploration = exploration;
+	}
+
+	/**
+	 * Gets the number of visits added to nodes on a worker's path until its
+	 * result is backed up.
+	 *
+	 * @return the virtual loss
+	 */
+	public int getVirtualLoss() {
+		return virtualLoss;
+	}
+
+	/**
+	 * Sets the number of visits added to nodes on a worker's path until its
+	 * result is backed up, 0 for none.
+	 *
+	 * @param virtualLoss
+	 *          the new virtual loss
+	 */
+	public void setVirtualLoss(int virtualLoss) {
+		assert virtualLoss >= 0;
+
+		this.virtualLoss = virtualLoss;
+	}
+
+	/**
+	 * Gets the maximum number of moves per playout.
+	 *
+	 * @return the max plies
+	 */
+	public int getMaxPlies() {
+		return maxPlies;
+	}
+
+	/**
+	 * Sets the maximum number of moves per playout, after which the game is
+	 * scored as a draw.
+	 *
+	 * @param maxPlies
+	 *          the new max plies
+	 */
+	public void setMaxPlies(int maxPlies) {
+		assert maxPlies > 0;
+
+		this.maxPlies = maxPlies;
+	}
+
+	/**
+	 * Checks if playouts are heuristic.
+	 *
+	 * @return true, if heuristic
+	 */
+	public boolean isHeuristicPlayouts() {
+		return heuristicPlayouts;
+	}
+
+	/**
+	 * If true playouts choose uniformly among the captures and promotions
+	 * available, if any, before the other moves. Otherwise playouts choose
+	 * uniformly among all legal moves.
+	 *
+	 * @param heuristicPlayouts
+	 *          the new heuristic playouts
+	 */
+	public void setHeuristicPlayouts(boolean heuristicPlayouts) {
+		this.heuristicPlayouts = heuristicPlayouts;
+	}
+
+	private <RULES extends CheckerRules> void iterate(CheckerGame<RULES> game, Context<RULES> context, int[] path,
+			long[] buffer, SplittableRandom random) {
+		int node = 0;
+		int length = 0;
+
+		visits.getAndAdd(node, virtualLoss);
+		path[length++] = node;
+
+		while (length < MAX_DEPTH) {
+			int first = firstChild.get(node);
+
+			boolean expanded = first == UNEXPANDED;
+			if (expanded) first = expand(game, node, toMove(game, context.firstColour), buffer);
+
+			if (first < 0) break;
+
+			node = select(node, first, childCount[node]);
+
+			visits.getAndAdd(node, virtualLoss);
+			path[length++] = node;
+
+			play(game, moves[node]);
+
+			if (expanded) break;
+		}
+
+		int winner = playout(game, context.firstColour, random, buffer);
+
+		backup(path, length, winner);
+	}
+
+	private <RULES extends CheckerRules> int expand(CheckerGame<RULES> game, int node, int colour, long[] buffer) {
+		if (!firstChild.compareAndSet(node, UNEXPANDED, LEAF)) return LEAF;
+
+		int count = game.generateMoves(colour, buffer);
+		if (count == 0 || size.get() + count > moves.length) return LEAF;
+
+		int first = size.getAndAdd(count);
+		if (first + count > moves.length) return LEAF;
+
+		for (int i = 0; i < count; i++) {
+			clearNode(first + i, buffer[i]);
+		}
+
+		childCount[node] = count;
+		firstChild.lazySet(node, first);
+
+		return first;
+	}
+
+	private int select(int node, int first, int count) {
+		double logVisits = Math.log(Math.max(1, visits.get(node)));
+
+		int best = first;
+		double bestValue = Double.NEGATIVE_INFINITY;
+
+		for (int child = first; child < first + count; child++) {
+			int n = visits.get(child);
+			if (n == 0) return child;
+
+			double value = wins.get(child) / (2.0 * n) + exploration * Math.sqrt(logVisits / n);
+			if (value > bestValue) {
+				best = child;
+				bestValue = value;
+			}
+		}
+
+		return best;
+	}
+
+	private <RULES extends CheckerRules> int playout(CheckerGame<RULES> game, int firstColour, SplittableRandom random,
+			long[] buffer) {
+		for (int plies = 0; plies < maxPlies; plies++) {
+			int count = game.generateMoves(toMove(game, firstColour), buffer);
+			if (count == 0) break;
+
+			play(game, choose(buffer, count, random));
+		}
+
+		return GameState.FINISHED == game.getGameState() ? game.getWinningColour() : -1;
+	}
+
+	private long choose(long[] buffer, int count, SplittableRandom random) {
+		if (!heuristicPlayouts) return buffer[random.nextInt(count)];
+
+		int preferred = 0;
+		for (int i = 0; i < count; i++) {
+			if (isPreferred(buffer[i])) preferred++;
+		}
+
+		if (preferred == 0 || preferred == count) return buffer[random.nextInt(count)];
+
+		int idx = random.nextInt(preferred);
+		for (int i = 0; i < count; i++) {
+			if (isPreferred(buffer[i]) && idx-- == 0) return buffer[i];
+		}
+
+		throw new IllegalStateException("Preferred move not found");
+	}
+
+	private boolean isPreferred(long move) {
+		return PackedMove.isCapture(move) || PackedMove.isPromotion(move);
+	}
+
+	private void backup(int[] path, int length, int winner) {
+		for (int i = 0; i < length; i++) {
+			int node = path[i];
+
+			visits.getAndAdd(node, 1 - virtualLoss);
+
+			if (node == 0) continue;
+
+			int colour = PackedMove.getColour(moves[node]);
+			wins.getAndAdd(node, winner == -1 ? 1L : winner == colour ? 2L : 0L);
+		}
+	}
+
+	private <RULES extends CheckerRules> void play(CheckerGame<RULES> game, long move) {
+		int code = game.tryMove(PackedMove.getColour(move), PackedMove.getNumber(move), PackedMove.getToPosition(move));
+		assert code == CheckerGame.MOVE_OK : PackedMove.toString(move);
+	}
+
+	private <RULES extends CheckerRules> int toMove(CheckerGame<RULES> game, int firstColour) {
+		int hasTurn = game.hasTurn();
+		if (hasTurn >= 0) return hasTurn;
+
+		int next = game.getNextPlayer();
+
+		return next == -1 ? firstColour : next;
+	}
+
+	private void clearNode(int node, long move) {
+		moves[node] = move;
+		firstChild.lazySet(node, UNEXPANDED);
+		childCount[node] = 0;
+		visits.lazySet(node, 0);
+		wins.lazySet(node, 0);
+	}
+
+	private MctsResult result(long nanos) {
+		int first = firstChild.get(0);
+		int count = first < 0 ? 0 : childCount[0];
+
+		long[] rootMoves = new long[count];
+		int[] rootVisits = new int[count];
+		long[] rootWins = new long[count];
+
+		for (int i = 0; i < count; i++) {
+			rootMoves[i] = moves[first + i];
+			rootVisits[i] = visits.get(first + i);
+			rootWins[i] = wins.get(first + i);
+		}
+
+		int nodes = Math.min(size.get(), moves.length);
+
+		return new MctsResult(rootMoves, rootVisits, rootWins, visits.get(0), nodes, nanos);
+	}
+
+	/**
+	 * The state shared by the workers of a search.
+	 */
+	private static class Context<RULES extends CheckerRules> {
+		final CheckerGame<RULES> root;
+		final int firstColour;
+		final AtomicLong remaining;
+		final long deadline;
+
+		Context(CheckerGame<RULES> root, int firstColour, AtomicLong remaining, long deadline) {
+			this.root = root;
+			this.firstColour = firstColour;
+			this.remaining = remaining;
+			this.deadline = deadline;
+		}
+	}
+
+	/**
+	 * Runs a number of workers, splitting in two until one remains.
+	 */
+	private class Workers<RULES extends CheckerRules> extends RecursiveAction {
+
+		private static final long serialVersionUID = -3207514926635126846L;
+
+		private final Context<RULES> context;
+		private final int workers;
+		private final SplittableRandom random;
+
+		Workers(Context<RULES> context, int workers, SplittableRandom random) {
+			this.context = context;
+			this.workers = workers;
+			this.random = random;
+		}
+
+		@Override
+		protected void compute() {
+			if (workers > 1) {
+				int half = workers / 2;
+
+				invokeAll(new Workers<>(context, half, random.split()), new Workers<>(context, workers - half, random));
+
+				return;
+			}
+
+			CheckerGame<RULES> game = context.root.copy();
+			long[] buffer = new long[game.getMaxMoves()];
+			int[] path = new int[MAX_DEPTH];
+
+			while (!stopped && context.remaining.getAndDecrement() > 0) {
+				if (context.deadline != 0 && System.nanoTime() - context.deadline > 0) break;
+
+				game.copyFrom(context.root);
+
+				iterate(game, context, path, buffer, random);
+			}
+		}
+	}
+}
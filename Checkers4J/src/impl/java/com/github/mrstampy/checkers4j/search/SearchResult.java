@@ -0,0 +1,147 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The result of a search by {@link AlphaBetaSearch}.
+ */
+public class SearchResult implements Serializable {
+
+	private static final long serialVersionUID = 2384915568630923167L;
+
+	private long[] principalVariation;
+	private int score;
+	private int depth;
+	private long nodes;
+	private long nanos;
+
+	/**
+	 * Instantiates a new search result.
+	 *
+	 * @param principalVariation
+	 *          the principal variation, the best move first
+	 * @param score
+	 *          the score
+	 * @param depth
+	 *          the depth
+	 * @param nodes
+	 *          the nodes
+	 * @param nanos
+	 *          the nanos
+	 */
+	public SearchResult(long[] principalVariation, int score, int depth, long nodes, long nanos) {
+		this.principalVariation = principalVariation;
+		this.score = score;
+		this.depth = depth;
+		this.nodes = nodes;
+		this.nanos = nanos;
+	}
+
+	/**
+	 * Gets the best move as a {@link PackedMove}, {@link PackedMove#NO_MOVE} if
+	 * there are no moves.
+	 *
+	 * @return the best move
+	 */
+	public long getBestMove() {
+		return principalVariation.length == 0 ? PackedMove.NO_MOVE : principalVariation[0];
+	}
+
+	/**
+	 * Gets the principal variation, the sequence of {@link PackedMove}s expected
+	 * to be played, starting with the best move.
+	 *
+	 * @return the principal variation
+	 */
+	public long[] getPrincipalVariation() {
+		return Arrays.copyOf(principalVariation, principalVariation.length);
+	}
+
+	/**
+	 * Gets the score from the point of view of the colour searched for.
+	 *
+	 * @return the score
+	 * @see AlphaBetaSearch#isWinScore(int)
+	 */
+	public int getScore() {
+		return score;
+	}
+
+	/**
+	 * Gets the depth of the last completed iteration.
+	 *
+	 * @return the depth
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Gets the number of nodes searched.
+	 *
+	 * @return the nodes
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * Gets the elapsed wall clock time in nanoseconds.
+	 *
+	 * @return the nanos
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+
+	/**
+	 * Gets the nodes per second.
+	 *
+	 * @return the nodes per second
+	 */
+	public double getNodesPerSecond() {
+		return nanos == 0 ? 0 : nodes * 1e9 / nanos;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("depth ").append(depth).append(", score ").append(score).append(", ");
+		sb.append(nodes).append(" nodes, ");
+		sb.append(String.format("%.0f", getNodesPerSecond())).append(" nodes/sec, pv");
+
+		for (long move : principalVariation) {
+			sb.append(' ').append(PackedMove.getFromPosition(move)).append(PackedMove.isCapture(move) ? 'x' : '-')
+					.append(PackedMove.getToPosition(move));
+		}
+
+		return sb.toString();
+	}
+}
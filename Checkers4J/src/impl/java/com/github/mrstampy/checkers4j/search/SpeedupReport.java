@@ -0,0 +1,118 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import java.io.Serializable;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Compares searches of the same position to the same depth with one thread and
+ * with several, as reported by
+ * {@link LazySmpSearch#measureSpeedup(com.github.mrstampy.checkers4j.standard.StandardCheckerGame, int, int)}
+ * .
+ */
+public class SpeedupReport implements Serializable {
+
+	private static final long serialVersionUID = -7380151824461593342L;
+
+	private int threads;
+	private SearchResult single;
+	private SearchResult parallel;
+
+	/**
+	 * Instantiates a new speedup report.
+	 *
+	 * @param threads
+	 *          the threads
+	 * @param single
+	 *          the single threaded result
+	 * @param parallel
+	 *          the parallel result
+	 */
+	public SpeedupReport(int threads, SearchResult single, SearchResult parallel) {
+		this.threads = threads;
+		this.single = single;
+		this.parallel = parallel;
+	}
+
+	/**
+	 * Gets the number of threads of the parallel search.
+	 *
+	 * @return the threads
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Gets the single threaded result.
+	 *
+	 * @return the single
+	 */
+	public SearchResult getSingle() {
+		return single;
+	}
+
+	/**
+	 * Gets the parallel result.
+	 *
+	 * @return the parallel
+	 */
+	public SearchResult getParallel() {
+		return parallel;
+	}
+
+	/**
+	 * Gets the time to depth of the single threaded search divided by that of
+	 * the parallel search.
+	 *
+	 * @return the speedup
+	 */
+	public double getSpeedup() {
+		return parallel.getNanos() == 0 ? 0 : (double) single.getNanos() / parallel.getNanos();
+	}
+
+	/**
+	 * Gets the nodes per second of the parallel search divided by that of the
+	 * single threaded search.
+	 *
+	 * @return the nodes per second scaling
+	 */
+	public double getNodesPerSecondScaling() {
+		double nps = single.getNodesPerSecond();
+
+		return nps == 0 ? 0 : parallel.getNodesPerSecond() / nps;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(threads).append(" threads, speedup ").append(String.format("%.2f", getSpeedup()));
+		sb.append(", nodes/sec x").append(String.format("%.2f", getNodesPerSecondScaling()));
+		sb.append("\n1 thread: ").append(single);
+		sb.append("\n").append(threads).append(" threads: ").append(parallel);
+
+		return sb.toString();
+	}
+}
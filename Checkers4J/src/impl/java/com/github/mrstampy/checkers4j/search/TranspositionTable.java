@@ -0,0 +1,319 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import java.util.Arrays;
+
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Fixed size transposition table of search results keyed by position hash,
+ * shared by any number of search threads without locking.<br>
+ * <br>
+ * Entries are two longs in a single long array: the key XOR'd with the data,
+ * then the data. The data holds the best move, score, depth, {@link #EXACT},
+ * {@link #LOWER_BOUND} or {@link #UPPER_BOUND} bound type and the search age.
+ * Entries torn by concurrent writes fail verification against the key and are
+ * treated as misses.<br>
+ * <br>
+ * Entries are grouped in buckets of {@link #BUCKET_SIZE}, a 64 byte cache line.
+ * Storing a position replaces its existing entry, else the entry of least
+ * depth, entries from earlier searches (see {@link #newSearch()}) counting as
+ * shallower by {@link #AGE_PENALTY} per search.
+ */
+public final class TranspositionTable {
+
+	/** The number of entries in each bucket. */
+	public static final int BUCKET_SIZE = 4;
+
+	/** Bound type of a score which is exact. */
+	public static final int EXACT = 1;
+
+	/** Bound type of a score which is at least the stored score. */
+	public static final int LOWER_BOUND = 2;
+
+	/** Bound type of a score which is at most the stored score. */
+	public static final int UPPER_BOUND = 3;
+
+	/** The maximum depth which can be stored. */
+	public static final int MAX_DEPTH = 0xFF;
+
+	/** The maximum absolute score which can be stored. */
+	public static final int MAX_SCORE = Short.MAX_VALUE;
+
+	/** The depth by which an entry is devalued for each search since stored. */
+	public static final int AGE_PENALTY = 4;
+
+	private static final int SCORE_SHIFT = 32;
+	private static final int DEPTH_SHIFT = 48;
+	private static final int BOUND_SHIFT = 56;
+	private static final int AGE_SHIFT = 58;
+
+	private static final long MOVE_MASK = 0xFFFFFFFFL;
+	private static final int BOUND_MASK = 0x3;
+	private static final int AGE_MASK = 0x3F;
+
+	private static final int MOVE_COLOUR_SHIFT = 12;
+	private static final int MOVE_TO_SHIFT = 15;
+
+	private final long[] table;
+	private final int mask;
+
+	private volatile int age;
+
+	/**
+	 * Instantiates a new transposition table of 2^bits entries.
+	 *
+	 * @param bits
+	 *          the size of the table as a power of two, at least 2
+	 */
+	public TranspositionTable(int bits) {
+		if (bits < 2 || bits > 29) throw new IllegalArgumentException("Table bits must be from 2 to 29: " + bits);
+
+		table = new long[2 << bits];
+		mask = (1 << (bits - 2)) - 1;
+	}
+
+	/**
+	 * Returns the data stored for the specified key, 0 if none. Decode with
+	 * {@link #getScore(long)}, {@link #getDepth(long)}, {@link #getBound(long)}
+	 * and {@link #getMove(long)}.
+	 *
+	 * @param key
+	 *          the key
+	 * @return the data
+	 */
+	public long probe(long key) {
+		int base = bucket(key);
+
+		for (int i = base; i < base + BUCKET_SIZE * 2; i += 2) {
+			long data = table[i + 1];
+
+			if (data != 0 && (table[i] ^ data) == key) return data;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Stores the result of a search of the position with the specified key. If
+	 * the move is 0 the best move of any existing entry for the position is
+	 * kept.
+	 *
+	 * @param key
+	 *          the key
+	 * @param depth
+	 *          the depth searched, 0 to {@link #MAX_DEPTH}
+	 * @param bound
+	 *          the bound type
+	 * @param score
+	 *          the score, within +/- {@link #MAX_SCORE}
+	 * @param move
+	 *          the best move as per {@link #compressMove(long)}, 0 if none
+	 */
+	public void store(long key, int depth, int bound, int score, int move) {
+		assert depth >= 0 && depth <= MAX_DEPTH;
+		assert bound >= EXACT && bound <= UPPER_BOUND;
+		assert score >= -MAX_SCORE && score <= MAX_SCORE;
+
+		int age = this.age;
+		int base = bucket(key);
+
+		int replace = base;
+		int worst = Integer.MAX_VALUE;
+
+		for (int i = base; i < base + BUCKET_SIZE * 2; i += 2) {
+			long data = table[i + 1];
+
+			if (data != 0 && (table[i] ^ data) == key) {
+				if (move == 0) move = getMove(data);
+				replace = i;
+				break;
+			}
+
+			int value = data == 0 ? Integer.MIN_VALUE : getDepth(data) - AGE_PENALTY * ((age - getAge(data)) & AGE_MASK);
+			if (value < worst) {
+				worst = value;
+				replace = i;
+			}
+		}
+
+		//@formatter:off
+		long data = (move & MOVE_MASK) | 
+				(long) (score & 0xFFFF) << SCORE_SHIFT | 
+				(long) depth << DEPTH_SHIFT | 
+				(long) bound << BOUND_SHIFT | 
+				(long) age << AGE_SHIFT;
+		//@formatter:on
+
+		table[replace + 1] = data;
+		table[replace] = key ^ data;
+	}
+
+	/**
+	 * Marks the start of a new search; entries stored by earlier searches become
+	 * preferred for replacement.
+	 */
+	public void newSearch() {
+		age = (age + 1) & AGE_MASK;
+	}
+
+	/**
+	 * Clears the table. Not to be invoked during a search.
+	 */
+	public void clear() {
+		Arrays.fill(table, 0);
+		age = 0;
+	}
+
+	/**
+	 * Returns the number of entries in the table.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return table.length / 2;
+	}
+
+	/**
+	 * Returns how many of the first 1000 entries were stored by the current
+	 * search, an estimate of the permille of the table in use.
+	 *
+	 * @return the permille full
+	 */
+	public int getPermilleFull() {
+		int age = this.age;
+		int samples = Math.min(1000, size());
+
+		int full = 0;
+		for (int i = 0; i < samples; i++) {
+			long data = table[i * 2 + 1];
+			if (data != 0 && getAge(data) == age) full++;
+		}
+
+		return full * 1000 / samples;
+	}
+
+	/**
+	 * Returns the score of the data.
+	 *
+	 * @param data
+	 *          the data
+	 * @return the score
+	 */
+	public static int getScore(long data) {
+		return (short) (data >>> SCORE_SHIFT);
+	}
+
+	/**
+	 * Returns the depth of the data.
+	 *
+	 * @param data
+	 *          the data
+	 * @return the depth
+	 */
+	public static int getDepth(long data) {
+		return (int) (data >>> DEPTH_SHIFT) & MAX_DEPTH;
+	}
+
+	/**
+	 * Returns the bound type of the data.
+	 *
+	 * @param data
+	 *          the data
+	 * @return the bound
+	 */
+	public static int getBound(long data) {
+		return (int) (data >>> BOUND_SHIFT) & BOUND_MASK;
+	}
+
+	/**
+	 * Returns the best move of the data, 0 if none.
+	 *
+	 * @param data
+	 *          the data
+	 * @return the move
+	 * @see #compressMove(long)
+	 */
+	public static int getMove(long data) {
+		return (int) (data & MOVE_MASK);
+	}
+
+	private static int getAge(long data) {
+		return (int) (data >>> AGE_SHIFT) & AGE_MASK;
+	}
+
+	/**
+	 * Compresses the piece colour, number and to position of the specified
+	 * {@link PackedMove} into an int for storage, 0 for
+	 * {@link PackedMove#NO_MOVE}. The remainder of the move can be recreated from
+	 * the position it was made from.
+	 *
+	 * @param move
+	 *          the move
+	 * @return the compressed move
+	 */
+	public static int compressMove(long move) {
+		if (move == PackedMove.NO_MOVE) return 0;
+
+		//@formatter:off
+		return PackedMove.getNumber(move) | 
+				PackedMove.getColour(move) << MOVE_COLOUR_SHIFT | 
+				(PackedMove.getToPosition(move) + 1) << MOVE_TO_SHIFT;
+		//@formatter:on
+	}
+
+	/**
+	 * Returns the piece colour of the compressed move.
+	 *
+	 * @param move
+	 *          the move
+	 * @return the colour
+	 */
+	public static int getMoveColour(int move) {
+		return (move >>> MOVE_COLOUR_SHIFT) & 0x7;
+	}
+
+	/**
+	 * Returns the piece number of the compressed move.
+	 *
+	 * @param move
+	 *          the move
+	 * @return the number
+	 */
+	public static int getMoveNumber(int move) {
+		return move & 0xFFF;
+	}
+
+	/**
+	 * Returns the to position of the compressed move.
+	 *
+	 * @param move
+	 *          the move
+	 * @return the to position
+	 */
+	public static int getMoveToPosition(int move) {
+		return (move >>> MOVE_TO_SHIFT) - 1;
+	}
+
+	private int bucket(long key) {
+		return ((int) key & mask) * BUCKET_SIZE * 2;
+	}
+}
@@ -0,0 +1,306 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.standard;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+
+import com.github.mrstampy.checkers4j.Piece;
+
+// TODO: Auto-generated Javadoc
+/**
+ * {@link CheckerBoard} which additionally maintains the board as bitboards,
+ * one long each for white pieces, black pieces and kings. Move, jump and
+ * {@link #canMove(int)} evaluation are shift-and-mask operations on these
+ * longs, recomputed on each call. Bit n of each long corresponds to the square
+ * at (n % width, n / width), limiting use to boards of at most 64 squares ie.
+ * the standard 8x8 board.
+ * 
+ * @author burton
+ *
+ */
+public class BitCheckerBoard extends CheckerBoard {
+
+	private static final long serialVersionUID = 2470385725384601839L;
+
+	private long white;
+	private long black;
+	private long kings;
+
+	private long squares;
+	private long notLeft;
+	private long notRight;
+	private long notLeft2;
+	private long notRight2;
+
+	/**
+	 * Instantiates a new bit checker board.
+	 *
+	 * @param width
+	 *          the width
+	 * @param height
+	 *          the height
+	 */
+	public BitCheckerBoard(int width, int height) {
+		super(width, height);
+
+		if (!fits(width, height)) {
+			throw new IllegalArgumentException("Board " + width + "x" + height + " exceeds " + Long.SIZE + " squares");
+		}
+
+		createMasks();
+	}
+
+	/**
+	 * Returns true if a board of the specified dimensions can be represented by
+	 * this class.
+	 *
+	 * @param width
+	 *          the width
+	 * @param height
+	 *          the height
+	 * @return true, if successful
+	 */
+	public static boolean fits(int width, int height) {
+		return width * height <= Long.SIZE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.standard.CheckerBoard#setBoardPiece(com.
+	 * github.mrstampy.checkers4j.Piece, int, int)
+	 */
+	@Override
+	public void setBoardPiece(Piece piece, int x, int y) {
+		super.setBoardPiece(piece, x, y);
+
+		long bit = bit(x, y);
+
+		white &= ~bit;
+		black &= ~bit;
+		kings &= ~bit;
+
+		if (piece == null) return;
+
+		if (piece.getColour() == WHITE_NUM) {
+			white |= bit;
+		} else {
+			black |= bit;
+		}
+
+		if (piece.isKinged()) kings |= bit;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.standard.CheckerBoard#resetBoard()
+	 */
+	@Override
+	public void resetBoard() {
+		super.resetBoard();
+
+		white = 0;
+		black = 0;
+		kings = 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.standard.CheckerBoard#canMove(boolean,
+	 * int, int)
+	 */
+	@Override
+	public boolean canMove(boolean forward, int x, int y) {
+		return moves(bit(x, y), forward) != 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.standard.CheckerBoard#canJump(boolean,
+	 * int, int)
+	 */
+	@Override
+	public boolean canJump(boolean forward, int x, int y) {
+		long bit = bit(x, y);
+
+		if ((white & bit) != 0) return jumps(bit, black, forward) != 0;
+		if ((black & bit) != 0) return jumps(bit, white, forward) != 0;
+
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.standard.CheckerBoard#canMove(int)
+	 */
+	@Override
+	public boolean canMove(int pieceColour) {
+		boolean isWhite = pieceColour == WHITE_NUM;
+
+		long own = isWhite ? white : black;
+		long opponent = isWhite ? black : white;
+
+		long forward = isWhite ? own : own & kings;
+		long backward = isWhite ? own & kings : own;
+
+		if (moves(forward, true) != 0 || moves(backward, false) != 0) return true;
+
+		return jumps(forward, opponent, true) != 0 || jumps(backward, opponent, false) != 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.standard.CheckerBoard#canMoveAcross(int,
+	 * com.github.mrstampy.checkers4j.standard.CheckerBoard,
+	 * com.github.mrstampy.checkers4j.standard.CheckerBoard)
+	 */
+	@Override
+	public boolean canMoveAcross(int pieceColour, CheckerBoard adjacent, CheckerBoard beyond) {
+		if (!(adjacent instanceof BitCheckerBoard) || (beyond != null && !(beyond instanceof BitCheckerBoard))) {
+			return super.canMoveAcross(pieceColour, adjacent, beyond);
+		}
+
+		BitCheckerBoard adj = (BitCheckerBoard) adjacent;
+
+		boolean isWhite = pieceColour == WHITE_NUM;
+
+		long own = isWhite ? white : black;
+
+		long forward = isWhite ? own : own & kings;
+		long backward = isWhite ? own & kings : own;
+
+		long empty = adj.getEmpty();
+		if (moves(forward, true, empty) != 0 || moves(backward, false, empty) != 0) return true;
+
+		if (beyond == null) return false;
+
+		long opponent = isWhite ? adj.black : adj.white;
+		long landing = ((BitCheckerBoard) beyond).getEmpty();
+
+		return jumps(forward, opponent, true, landing) != 0 || jumps(backward, opponent, false, landing) != 0;
+	}
+
+	/**
+	 * Returns the white pieces bitboard.
+	 *
+	 * @return the white
+	 */
+	public long getWhite() {
+		return white;
+	}
+
+	/**
+	 * Returns the black pieces bitboard.
+	 *
+	 * @return the black
+	 */
+	public long getBlack() {
+		return black;
+	}
+
+	/**
+	 * Returns the kinged pieces bitboard.
+	 *
+	 * @return the kings
+	 */
+	public long getKings() {
+		return kings;
+	}
+
+	/**
+	 * Returns the empty squares bitboard.
+	 *
+	 * @return the empty
+	 */
+	public long getEmpty() {
+		return ~(white | black) & squares;
+	}
+
+	/**
+	 * Returns the bit for the square at x & y.
+	 *
+	 * @param x
+	 *          the x
+	 * @param y
+	 *          the y
+	 * @return the long
+	 */
+	public long bit(int x, int y) {
+		return 1L << (y * getWidth() + x);
+	}
+
+	// destination squares of simple moves for the pieces specified
+	private long moves(long pieces, boolean forward) {
+		return moves(pieces, forward, getEmpty());
+	}
+
+	// destination squares of simple moves onto the empty squares specified
+	private long moves(long pieces, boolean forward, long empty) {
+		int w = getWidth();
+
+		if (forward) return (((pieces & notLeft) << (w - 1)) | ((pieces & notRight) << (w + 1))) & empty;
+
+		return (((pieces & notLeft) >>> (w + 1)) | ((pieces & notRight) >>> (w - 1))) & empty;
+	}
+
+	// landing squares of jumps for the pieces specified
+	private long jumps(long pieces, long opponent, boolean forward) {
+		return jumps(pieces, opponent, forward, getEmpty());
+	}
+
+	// landing squares of jumps onto the empty squares specified
+	private long jumps(long pieces, long opponent, boolean forward, long empty) {
+		int w = getWidth();
+
+		long left;
+		long right;
+		if (forward) {
+			left = (((pieces & notLeft2) << (w - 1)) & opponent) << (w - 1);
+			right = (((pieces & notRight2) << (w + 1)) & opponent) << (w + 1);
+		} else {
+			left = (((pieces & notLeft2) >>> (w + 1)) & opponent) >>> (w + 1);
+			right = (((pieces & notRight2) >>> (w - 1)) & opponent) >>> (w - 1);
+		}
+
+		return (left | right) & empty;
+	}
+
+	private void createMasks() {
+		int w = getWidth();
+
+		for (int y = 0; y < getHeight(); y++) {
+			for (int x = 0; x < w; x++) {
+				long bit = bit(x, y);
+
+				squares |= bit;
+				if (x > 0) notLeft |= bit;
+				if (x > 1) notLeft2 |= bit;
+				if (x < w - 1) notRight |= bit;
+				if (x < w - 2) notRight2 |= bit;
+			}
+		}
+	}
+}
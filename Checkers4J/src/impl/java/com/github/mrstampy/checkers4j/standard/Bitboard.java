@@ -0,0 +1,340 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.standard;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Fixed size set of bits backed by an array of longs, providing the shift,
+ * mask and population count operations required of a bitboard for boards of
+ * any size. Bit n is held in word n / 64 at bit n % 64. Operations are
+ * performed in place and return this bitboard to allow chaining, ie.
+ * 
+ * <pre>
+ * scratch.copy(pieces).and(notLeft).shiftLeft(width - 1).and(empty);
+ * </pre>
+ * 
+ * Bits shifted beyond {@link #size()} are discarded.
+ * 
+ * @author burton
+ *
+ */
+public class Bitboard implements Serializable {
+
+	private static final long serialVersionUID = -6047262981350347296L;
+
+	private final long[] words;
+	private final int size;
+	private final long lastWordMask;
+
+	/**
+	 * Instantiates a new bitboard of the specified number of bits, all clear.
+	 *
+	 * @param size
+	 *          the size
+	 */
+	public Bitboard(int size) {
+		assert size > 0;
+
+		this.size = size;
+		this.words = new long[(size + Long.SIZE - 1) / Long.SIZE];
+
+		int rem = size % Long.SIZE;
+		this.lastWordMask = rem == 0 ? -1L : (1L << rem) - 1;
+	}
+
+	/**
+	 * Returns the number of bits.
+	 *
+	 * @return the int
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of words backing this bitboard.
+	 *
+	 * @return the word count
+	 */
+	public int getWordCount() {
+		return words.length;
+	}
+
+	/**
+	 * Returns the word at the specified index.
+	 *
+	 * @param idx
+	 *          the idx
+	 * @return the word
+	 */
+	public long getWord(int idx) {
+		return words[idx];
+	}
+
+	/**
+	 * Returns true if the specified bit is set.
+	 *
+	 * @param bit
+	 *          the bit
+	 * @return true, if successful
+	 */
+	public boolean get(int bit) {
+		return (words[bit >>> 6] & (1L << bit)) != 0;
+	}
+
+	/**
+	 * Sets the specified bit.
+	 *
+	 * @param bit
+	 *          the bit
+	 * @return the bitboard
+	 */
+	public Bitboard set(int bit) {
+		words[bit >>> 6] |= 1L << bit;
+		return this;
+	}
+
+	/**
+	 * Clears the specified bit.
+	 *
+	 * @param bit
+	 *          the bit
+	 * @return the bitboard
+	 */
+	public Bitboard clear(int bit) {
+		words[bit >>> 6] &= ~(1L << bit);
+		return this;
+	}
+
+	/**
+	 * Clears all bits.
+	 *
+	 * @return the bitboard
+	 */
+	public Bitboard clear() {
+		Arrays.fill(words, 0);
+		return this;
+	}
+
+	/**
+	 * Sets this bitboard's bits to those of the specified bitboard, which must be
+	 * of the same size.
+	 *
+	 * @param other
+	 *          the other
+	 * @return the bitboard
+	 */
+	public Bitboard copy(Bitboard other) {
+		System.arraycopy(other.words, 0, words, 0, words.length);
+		return this;
+	}
+
+	/**
+	 * Bitwise and.
+	 *
+	 * @param other
+	 *          the other
+	 * @return the bitboard
+	 */
+	public Bitboard and(Bitboard other) {
+		for (int i = 0; i < words.length; i++) {
+			words[i] &= other.words[i];
+		}
+		return this;
+	}
+
+	/**
+	 * Bitwise or.
+	 *
+	 * @param other
+	 *          the other
+	 * @return the bitboard
+	 */
+	public Bitboard or(Bitboard other) {
+		for (int i = 0; i < words.length; i++) {
+			words[i] |= other.words[i];
+		}
+		return this;
+	}
+
+	/**
+	 * Clears all bits set in the specified bitboard.
+	 *
+	 * @param other
+	 *          the other
+	 * @return the bitboard
+	 */
+	public Bitboard andNot(Bitboard other) {
+		for (int i = 0; i < words.length; i++) {
+			words[i] &= ~other.words[i];
+		}
+		return this;
+	}
+
+	/**
+	 * Inverts all bits.
+	 *
+	 * @return the bitboard
+	 */
+	public Bitboard not() {
+		for (int i = 0; i < words.length; i++) {
+			words[i] = ~words[i];
+		}
+		words[words.length - 1] &= lastWordMask;
+		return this;
+	}
+
+	/**
+	 * Shifts all bits towards higher indices by the specified amount.
+	 *
+	 * @param n
+	 *          the n
+	 * @return the bitboard
+	 */
+	public Bitboard shiftLeft(int n) {
+		assert n >= 0;
+
+		int wordShift = n >>> 6;
+		int bitShift = n & 63;
+
+		for (int i = words.length - 1; i >= 0; i--) {
+			int src = i - wordShift;
+
+			long w = src >= 0 ? words[src] << bitShift : 0;
+			if (bitShift != 0 && src > 0) w |= words[src - 1] >>> (Long.SIZE - bitShift);
+
+			words[i] = w;
+		}
+
+		words[words.length - 1] &= lastWordMask;
+		return this;
+	}
+
+	/**
+	 * Shifts all bits towards lower indices by the specified amount.
+	 *
+	 * @param n
+	 *          the n
+	 * @return the bitboard
+	 */
+	public Bitboard shiftRight(int n) {
+		assert n >= 0;
+
+		int wordShift = n >>> 6;
+		int bitShift = n & 63;
+
+		for (int i = 0; i < words.length; i++) {
+			int src = i + wordShift;
+
+			long w = src < words.length ? words[src] >>> bitShift : 0;
+			if (bitShift != 0 && src + 1 < words.length) w |= words[src + 1] << (Long.SIZE - bitShift);
+
+			words[i] = w;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the number of set bits.
+	 *
+	 * @return the int
+	 */
+	public int popCount() {
+		int count = 0;
+		for (long w : words) {
+			count += Long.bitCount(w);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns true if no bits are set.
+	 *
+	 * @return true, if is empty
+	 */
+	public boolean isEmpty() {
+		for (long w : words) {
+			if (w != 0) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if any bit is set in both bitboards.
+	 *
+	 * @param other
+	 *          the other
+	 * @return true, if successful
+	 */
+	public boolean intersects(Bitboard other) {
+		for (int i = 0; i < words.length; i++) {
+			if ((words[i] & other.words[i]) != 0) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the index of the first set bit at or after the specified index, -1
+	 * if none.
+	 *
+	 * @param from
+	 *          the from
+	 * @return the int
+	 */
+	public int nextSetBit(int from) {
+		if (from >= size) return -1;
+
+		int idx = from >>> 6;
+		long w = words[idx] & (-1L << from);
+
+		while (true) {
+			if (w != 0) return idx * Long.SIZE + Long.numberOfTrailingZeros(w);
+			if (++idx == words.length) return -1;
+			w = words[idx];
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof Bitboard)) return false;
+
+		Bitboard b = (Bitboard) o;
+
+		return b.size == size && Arrays.equals(b.words, words);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(words);
+	}
+}
@@ -18,6 +18,8 @@
  */
 package com.github.mrstampy.checkers4j.standard;
 
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+
 import java.io.Serializable;
 
 import com.github.mrstampy.checkers4j.Piece;
@@ -40,6 +42,12 @@ public class CheckerBoard implements Serializable {
 	private int width;
 	private int height;
 
+	// squares (y * width + x) occupied by each colour, white then black, and
+	// the index of each occupied square within its colour's list
+	private int[][] occupied;
+	private int[] counts;
+	private int[] slots;
+
 	/**
 	 * Instantiates a new checker board.
 	 *
@@ -79,7 +87,13 @@ public class CheckerBoard implements Serializable {
 	 *          the y
 	 */
 	public void setBoardPiece(Piece piece, int x, int y) {
+		int square = y * width + x;
+
+		if (board[y][x] != null) vacate(colourIndex(board[y][x].getColour()), square);
+
 		board[y][x] = piece;
+
+		if (piece != null) occupy(colourIndex(piece.getColour()), square);
 	}
 
 	/**
@@ -88,6 +102,10 @@ public class CheckerBoard implements Serializable {
 	 */
 	public void resetBoard() {
 		board = new Piece[height][width];
+
+		occupied = new int[2][width * height];
+		counts = new int[2];
+		slots = new int[width * height];
 	}
 
 	/**
@@ -140,6 +158,61 @@ public class CheckerBoard implements Serializable {
 		return canJump(x, y, x - 2, forward);
 	}
 
+	/**
+	 * Returns true if any piece of the specified colour has a potential move or
+	 * jump to make. Only the squares occupied by the colour, maintained as pieces
+	 * are set, are evaluated.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @return true, if successful
+	 */
+	public boolean canMove(int pieceColour) {
+		int colour = colourIndex(pieceColour);
+		boolean white = pieceColour == WHITE_NUM;
+
+		for (int i = 0; i < counts[colour]; i++) {
+			int x = occupied[colour][i] % width;
+			int y = occupied[colour][i] / width;
+
+			if ((white || board[y][x].isKinged()) && canMoveOrJump(true, x, y)) return true;
+			if ((!white || board[y][x].isKinged()) && canMoveOrJump(false, x, y)) return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns true if any piece of the specified colour has a potential move
+	 * diagonally onto an empty square of the adjacent board, or a potential jump
+	 * over an opposing piece on the adjacent board onto an empty square of the
+	 * board beyond. The boards must be of the same dimensions.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param adjacent
+	 *          the adjacent board
+	 * @param beyond
+	 *          the board beyond the adjacent board, null if none
+	 * @return true, if successful
+	 */
+	public boolean canMoveAcross(int pieceColour, CheckerBoard adjacent, CheckerBoard beyond) {
+		int colour = colourIndex(pieceColour);
+		boolean white = pieceColour == WHITE_NUM;
+
+		for (int i = 0; i < counts[colour]; i++) {
+			int x = occupied[colour][i] % width;
+			int y = occupied[colour][i] / width;
+
+			boolean king = board[y][x].isKinged();
+
+			if ((white || king) && canMoveAcross(x, y, true, pieceColour, adjacent, beyond)) return true;
+			if ((!white || king) && canMoveAcross(x, y, false, pieceColour, adjacent, beyond)) return true;
+		}
+
+		return false;
+	}
+
 	/**
 	 * Gets the width.
 	 *
@@ -158,6 +231,22 @@ public class CheckerBoard implements Serializable {
 		return height;
 	}
 
+	private int colourIndex(int pieceColour) {
+		return pieceColour == WHITE_NUM ? 0 : 1;
+	}
+
+	private void occupy(int colour, int square) {
+		slots[square] = counts[colour];
+		occupied[colour][counts[colour]++] = square;
+	}
+
+	private void vacate(int colour, int square) {
+		int last = occupied[colour][--counts[colour]];
+
+		occupied[colour][slots[square]] = last;
+		slots[last] = slots[square];
+	}
+
 	private boolean canMove(int x, int y, int toX, boolean forward) {
 		int toY = forward ? y + 1 : y - 1;
 
@@ -182,6 +271,25 @@ public class CheckerBoard implements Serializable {
 		return toJump != null && toJump.getColour() != piece.getColour();
 	}
 
+	private boolean canMoveAcross(int x, int y, boolean forward, int pieceColour, CheckerBoard adjacent,
+			CheckerBoard beyond) {
+		int dy = forward ? 1 : -1;
+
+		for (int dx = -1; dx <= 1; dx += 2) {
+			if (!isValidGrid(x + dx, getWidth()) || !isValidGrid(y + dy, getHeight())) continue;
+
+			Piece toJump = adjacent.getBoardPiece(x + dx, y + dy);
+			if (toJump == null) return true;
+
+			if (beyond == null || toJump.getColour() == pieceColour) continue;
+			if (!isValidGrid(x + 2 * dx, getWidth()) || !isValidGrid(y + 2 * dy, getHeight())) continue;
+
+			if (beyond.getBoardPiece(x + 2 * dx, y + 2 * dy) == null) return true;
+		}
+
+		return false;
+	}
+
 	private boolean isValidGrid(int i, int length) {
 		return i >= 0 && i < length;
 	}
@@ -0,0 +1,345 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.standard;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+
+import com.github.mrstampy.checkers4j.Piece;
+
+// TODO: Auto-generated Javadoc
+/**
+ * {@link CheckerBoard} which additionally maintains the board as multi-word
+ * {@link Bitboard}s for white pieces, black pieces and kings, for boards of any
+ * size (10x10, 12x12, 16x16 etc). Bit n of each bitboard corresponds to the
+ * square at (n % width, n / width). {@link BitCheckerBoard} should be preferred
+ * for boards of 64 squares or less.
+ * 
+ * @author burton
+ *
+ */
+public class MultiWordCheckerBoard extends CheckerBoard {
+
+	private static final long serialVersionUID = 4938106452087735813L;
+
+	private Bitboard white;
+	private Bitboard black;
+	private Bitboard kings;
+
+	private Bitboard notLeft;
+	private Bitboard notRight;
+	private Bitboard notLeft2;
+	private Bitboard notRight2;
+
+	private Bitboard empty;
+	private Bitboard movers;
+	private Bitboard left;
+	private Bitboard right;
+
+	/**
+	 * Instantiates a new multi word checker board.
+	 *
+	 * @param width
+	 *          the width
+	 * @param height
+	 *          the height
+	 */
+	public MultiWordCheckerBoard(int width, int height) {
+		super(width, height);
+
+		createBitboards();
+		resetBoard();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.standard.CheckerBoard#setBoardPiece(com.
+	 * github.mrstampy.checkers4j.Piece, int, int)
+	 */
+	@Override
+	public void setBoardPiece(Piece piece, int x, int y) {
+		super.setBoardPiece(piece, x, y);
+
+		int bit = bit(x, y);
+
+		white.clear(bit);
+		black.clear(bit);
+		kings.clear(bit);
+
+		if (piece == null) return;
+
+		if (piece.getColour() == WHITE_NUM) {
+			white.set(bit);
+		} else {
+			black.set(bit);
+		}
+
+		if (piece.isKinged()) kings.set(bit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.standard.CheckerBoard#resetBoard()
+	 */
+	@Override
+	public void resetBoard() {
+		super.resetBoard();
+
+		// invoked by the superclass constructor prior to creation
+		if (white == null) return;
+
+		white.clear();
+		black.clear();
+		kings.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.standard.CheckerBoard#canMove(boolean,
+	 * int, int)
+	 */
+	@Override
+	public boolean canMove(boolean forward, int x, int y) {
+		int bit = bit(x, y);
+		int w = getWidth();
+
+		int l = forward ? bit + w - 1 : bit - w - 1;
+		int r = forward ? bit + w + 1 : bit - w + 1;
+
+		if (notLeft.get(bit) && isEmpty(l)) return true;
+
+		return notRight.get(bit) && isEmpty(r);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.standard.CheckerBoard#canJump(boolean,
+	 * int, int)
+	 */
+	@Override
+	public boolean canJump(boolean forward, int x, int y) {
+		int bit = bit(x, y);
+
+		Bitboard opponent;
+		if (white.get(bit)) {
+			opponent = black;
+		} else if (black.get(bit)) {
+			opponent = white;
+		} else {
+			return false;
+		}
+
+		int w = getWidth();
+
+		int l = forward ? bit + w - 1 : bit - w - 1;
+		int r = forward ? bit + w + 1 : bit - w + 1;
+
+		if (notLeft2.get(bit) && isJump(l, 2 * l - bit, opponent)) return true;
+
+		return notRight2.get(bit) && isJump(r, 2 * r - bit, opponent);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.standard.CheckerBoard#canMove(int)
+	 */
+	@Override
+	public boolean canMove(int pieceColour) {
+		boolean isWhite = pieceColour == WHITE_NUM;
+
+		Bitboard opponent = isWhite ? black : white;
+
+		Bitboard to = updateEmpty();
+
+		return canMoveOrJump(isWhite, opponent, to, to);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.standard.CheckerBoard#canMoveAcross(int,
+	 * com.github.mrstampy.checkers4j.standard.CheckerBoard,
+	 * com.github.mrstampy.checkers4j.standard.CheckerBoard)
+	 */
+	@Override
+	public boolean canMoveAcross(int pieceColour, CheckerBoard adjacent, CheckerBoard beyond) {
+		if (!(adjacent instanceof MultiWordCheckerBoard) || (beyond != null && !(beyond instanceof MultiWordCheckerBoard))) {
+			return super.canMoveAcross(pieceColour, adjacent, beyond);
+		}
+
+		boolean isWhite = pieceColour == WHITE_NUM;
+
+		MultiWordCheckerBoard adj = (MultiWordCheckerBoard) adjacent;
+		MultiWordCheckerBoard bey = (MultiWordCheckerBoard) beyond;
+
+		Bitboard opponent = isWhite ? adj.black : adj.white;
+
+		return canMoveOrJump(isWhite, opponent, adj.updateEmpty(), bey == null ? null : bey.updateEmpty());
+	}
+
+	/**
+	 * Returns the number of pieces of the specified colour on the board.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @return the piece count
+	 */
+	public int getPieceCount(int pieceColour) {
+		return pieceColour == WHITE_NUM ? white.popCount() : black.popCount();
+	}
+
+	/**
+	 * Returns the white pieces bitboard, do not modify.
+	 *
+	 * @return the white
+	 */
+	public Bitboard getWhite() {
+		return white;
+	}
+
+	/**
+	 * Returns the black pieces bitboard, do not modify.
+	 *
+	 * @return the black
+	 */
+	public Bitboard getBlack() {
+		return black;
+	}
+
+	/**
+	 * Returns the kinged pieces bitboard, do not modify.
+	 *
+	 * @return the kings
+	 */
+	public Bitboard getKings() {
+		return kings;
+	}
+
+	/**
+	 * Returns the bit index for the square at x & y.
+	 *
+	 * @param x
+	 *          the x
+	 * @param y
+	 *          the y
+	 * @return the int
+	 */
+	public int bit(int x, int y) {
+		return y * getWidth() + x;
+	}
+
+	// empty squares, the scratch bitboard of this board
+	private Bitboard updateEmpty() {
+		return empty.copy(white).or(black).not();
+	}
+
+	// moves onto the squares specified, jumps onto the landing squares if not
+	// null
+	private boolean canMoveOrJump(boolean isWhite, Bitboard opponent, Bitboard to, Bitboard landing) {
+		Bitboard own = isWhite ? white : black;
+
+		// forward
+		movers.copy(own);
+		if (!isWhite) movers.and(kings);
+
+		if (canMoveOrJump(movers, opponent, true, to, landing)) return true;
+
+		// backward
+		movers.copy(own);
+		if (isWhite) movers.and(kings);
+
+		return canMoveOrJump(movers, opponent, false, to, landing);
+	}
+
+	private boolean canMoveOrJump(Bitboard pieces, Bitboard opponent, boolean forward, Bitboard to, Bitboard landing) {
+		if (pieces.isEmpty()) return false;
+
+		int w = getWidth();
+
+		// simple moves
+		left.copy(pieces).and(notLeft);
+		right.copy(pieces).and(notRight);
+		shift(left, forward, forward ? w - 1 : w + 1).and(to);
+		shift(right, forward, forward ? w + 1 : w - 1).and(to);
+
+		if (!left.isEmpty() || !right.isEmpty()) return true;
+
+		if (landing == null) return false;
+
+		// jumps
+		left.copy(pieces).and(notLeft2);
+		right.copy(pieces).and(notRight2);
+		shift(left, forward, forward ? w - 1 : w + 1).and(opponent);
+		shift(right, forward, forward ? w + 1 : w - 1).and(opponent);
+		shift(left, forward, forward ? w - 1 : w + 1).and(landing);
+		shift(right, forward, forward ? w + 1 : w - 1).and(landing);
+
+		return !left.isEmpty() || !right.isEmpty();
+	}
+
+	private Bitboard shift(Bitboard b, boolean forward, int n) {
+		return forward ? b.shiftLeft(n) : b.shiftRight(n);
+	}
+
+	private boolean isEmpty(int bit) {
+		return bit >= 0 && bit < white.size() && !white.get(bit) && !black.get(bit);
+	}
+
+	private boolean isJump(int jumped, int to, Bitboard opponent) {
+		if (to < 0 || to >= white.size()) return false;
+
+		return opponent.get(jumped) && isEmpty(to);
+	}
+
+	private void createBitboards() {
+		int w = getWidth();
+		int size = w * getHeight();
+
+		white = new Bitboard(size);
+		black = new Bitboard(size);
+		kings = new Bitboard(size);
+
+		notLeft = new Bitboard(size);
+		notRight = new Bitboard(size);
+		notLeft2 = new Bitboard(size);
+		notRight2 = new Bitboard(size);
+
+		empty = new Bitboard(size);
+		movers = new Bitboard(size);
+		left = new Bitboard(size);
+		right = new Bitboard(size);
+
+		for (int y = 0; y < getHeight(); y++) {
+			for (int x = 0; x < w; x++) {
+				int bit = bit(x, y);
+
+				if (x > 0) notLeft.set(bit);
+				if (x > 1) notLeft2.set(bit);
+				if (x < w - 1) notRight.set(bit);
+				if (x < w - 2) notRight2.set(bit);
+			}
+		}
+	}
+}
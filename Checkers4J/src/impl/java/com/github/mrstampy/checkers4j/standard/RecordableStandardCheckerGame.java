@@ -20,11 +20,11 @@ package com.github.mrstampy.checkers4j.standard;
 
 import java.util.List;
 
-import com.github.mrstampy.checkers4j.PieceState;
+import com.github.mrstampy.checkers4j.Piece;
+import com.github.mrstampy.checkers4j.annotation.Writable;
 import com.github.mrstampy.checkers4j.api.recorder.CheckerGameRecorder;
 import com.github.mrstampy.checkers4j.api.recorder.Move;
 import com.github.mrstampy.checkers4j.api.recorder.RecordableCheckerGame;
-import com.github.mrstampy.checkers4j.ex.CheckersStateException;
 
 // TODO: Auto-generated Javadoc
 /**
@@ -59,13 +59,28 @@ public class RecordableStandardCheckerGame extends StandardCheckerGame implement
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see com.github.mrstampy.checkers4j.AbstractCheckerGame#move(int, int, int)
+	 * @see
+	 * com.github.mrstampy.checkers4j.AbstractCheckerGame#moveMade(com.github.
+	 * mrstampy.checkers4j.Piece, int, int, boolean)
 	 */
 	@Override
-	public List<PieceState> move(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException {
-		recorder.addMove(getGameId(), pieceColour, pieceNumber, toPosition);
+	protected void moveMade(Piece piece, int fromPosition, int toPosition, boolean kinged) {
+		recorder.addMove(getGameId(), toPackedMove(piece, fromPosition, toPosition, kinged));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.standard.StandardCheckerGame#unmakeMove()
+	 */
+	@Override
+	@Writable
+	public long unmakeMove() {
+		long move = super.unmakeMove();
+
+		recorder.removeLastMove();
 
-		return super.move(pieceColour, pieceNumber, toPosition);
+		return move;
 	}
 
 	/*
@@ -78,6 +93,17 @@ public class RecordableStandardCheckerGame extends StandardCheckerGame implement
 		return recorder.getMoves();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.api.recorder.Recordable#getPackedMoves()
+	 */
+	@Override
+	public long[] getPackedMoves() {
+		return recorder.getPackedMoves();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
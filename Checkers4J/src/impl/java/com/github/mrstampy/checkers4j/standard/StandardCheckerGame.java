@@ -18,10 +18,10 @@
  */
 package com.github.mrstampy.checkers4j.standard;
 
-import static com.github.mrstampy.checkers4j.standard.CheckerBoard.splitDiff;
 import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
 import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
 
+import java.util.Arrays;
 import java.util.List;
 
 import com.github.mrstampy.checkers4j.AbstractCheckerGame;
@@ -29,7 +29,9 @@ import com.github.mrstampy.checkers4j.Piece;
 import com.github.mrstampy.checkers4j.PieceState;
 import com.github.mrstampy.checkers4j.annotation.ExposeInternals;
 import com.github.mrstampy.checkers4j.annotation.Writable;
+import com.github.mrstampy.checkers4j.api.CheckerGame;
 import com.github.mrstampy.checkers4j.api.CheckerRules;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
 import com.github.mrstampy.checkers4j.ex.CheckersStateException;
 import com.github.mrstampy.checkers4j.ex.CheckersStateException.ErrorState;
 
@@ -56,6 +58,31 @@ public class StandardCheckerGame extends AbstractCheckerGame<StandardCheckerRule
 
 	private CheckerBoard board;
 
+	private Piece continuing;
+
+	private static final int CONTINUING_SHIFT = 16;
+	private static final int TURN_SHIFT = 32;
+	private static final int LAST_PLAYER_SHIFT = 36;
+	private static final int NEXT_PLAYER_SHIFT = 40;
+	private static final int WINNING_COLOUR_SHIFT = 44;
+	private static final int GAME_STATE_SHIFT = 48;
+	private static final int KINGED_SHIFT = 52;
+	private static final int CAPTURED_COLOUR_SHIFT = 56;
+	private static final int CONTINUING_COLOUR_SHIFT = 60;
+
+	private static final long NUMBER_MASK = 0xFFFF;
+	private static final long COLOUR_MASK = 0xF;
+
+	private static final GameState[] GAME_STATES = GameState.values();
+
+	private long[] squareKeys;
+	private long zobrist;
+	private int zobristBoard;
+
+	private transient long[] undoMoves;
+	private transient long[] undoStates;
+	private transient int undoCount;
+
 	/**
 	 * Creates a standard checker game for a standard 8x8 checkerboard.
 	 */
@@ -94,7 +121,56 @@ public class StandardCheckerGame extends AbstractCheckerGame<StandardCheckerRule
 	public void initialize(StandardCheckerRules rules) {
 		super.initialize(rules);
 
-		board = new CheckerBoard(rules.getBoardWidth(), rules.getBoardHeight());
+		board = createBoard(rules);
+		squareKeys = new long[rules.getNumberOfPlayableSquares()];
+
+		getFullState().forEach(p -> addPieceToBoard(p));
+	}
+
+	/**
+	 * Returns the Zobrist hash of the position: the pieces, the colour to move
+	 * and any piece required to continue jumping. Maintained incrementally as
+	 * pieces are moved, jumped and kinged.
+	 *
+	 * @return the hash
+	 * @see StandardCheckerRules#getZobristKey(int, int, boolean)
+	 */
+	public long getZobristHash() {
+		long hash = zobrist;
+
+		int hasTurn = hasTurn();
+		int toMove = hasTurn >= 0 ? hasTurn : getLastPlayer() == -1 ? -1 : getNextPlayer();
+
+		if (toMove >= 0) hash ^= getRules().getZobristTurnKey(toMove);
+		if (continuing != null) hash ^= getRules().getZobristContinuingKey(continuing.getNumber());
+
+		return hash;
+	}
+
+	/**
+	 * Returns the Zobrist hash of the pieces on the board alone.
+	 *
+	 * @return the hash
+	 * @see #getZobristHash()
+	 */
+	public long getZobristPieceHash() {
+		return zobrist;
+	}
+
+	/**
+	 * Sets the index of this board within a game spanning several boards,
+	 * selecting the Zobrist keys of its squares.
+	 *
+	 * @param boardIdx
+	 *          the board index
+	 * @see StandardCheckerRules#getZobristKey(int, int, boolean)
+	 */
+	@Writable
+	public void setZobristBoard(int boardIdx) {
+		zobristBoard = boardIdx;
+
+		Arrays.fill(squareKeys, 0);
+		zobrist = 0;
 
 		getFullState().forEach(p -> addPieceToBoard(p));
 	}
@@ -106,11 +182,7 @@ public class StandardCheckerGame extends AbstractCheckerGame<StandardCheckerRule
 	 */
 	@Override
 	public boolean canMove(int pieceColour) {
-		List<Piece> list = byColour.get(pieceColour);
-
-		if (list == null || list.isEmpty()) return false;
-
-		return list.stream().filter(p -> canMove(p)).findAny().isPresent();
+		return board.canMove(pieceColour);
 	}
 
 	/*
@@ -126,6 +198,407 @@ public class StandardCheckerGame extends AbstractCheckerGame<StandardCheckerRule
 		return piece.isKinged() ? canMoveKing(piece) : canMove(piece, piece.getColour() == WHITE_NUM);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#generateMoves(int,
+	 * long[])
+	 */
+	@Override
+	public int generateMoves(int pieceColour, long[] into) {
+		if (!isTurnOf(pieceColour)) return 0;
+
+		if (continuing != null) return generateMoves(continuing, into, 0, true);
+
+		List<Piece> pieces = getPieces(pieceColour);
+
+		int count = 0;
+		for (int i = 0; i < pieces.size(); i++) {
+			Piece piece = pieces.get(i);
+			if (!piece.isJumped()) count = generateMoves(piece, into, count, false);
+		}
+
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#getMaxMoves()
+	 */
+	@Override
+	public int getMaxMoves() {
+		return getRules().getNumberOfPieces() * StandardCheckerRules.DIRECTIONS;
+	}
+
+	/**
+	 * Returns the {@link PackedMove} describing the move of the specified piece
+	 * to the specified position from the current state of the game. The move is
+	 * not validated.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @param toPosition
+	 *          the to position
+	 * @return the packed move
+	 */
+	public long toPackedMove(int pieceColour, int pieceNumber, int toPosition) {
+		Piece piece = getPiece(pieceColour, pieceNumber);
+
+		if (piece == null || piece.isJumped()) return PackedMove.encode(pieceColour, pieceNumber, -1, toPosition, -1, false);
+
+		int position = piece.getPosition();
+		int direction = getRules().getJumpDirection(position, toPosition);
+		int captured = direction == -1 ? -1 : getRules().getJumped(position, direction);
+
+		return toPackedMove(piece, toPosition, captured);
+	}
+
+	/**
+	 * Returns the {@link PackedMove} of a move already made, as passed to
+	 * {@link #moveMade(Piece, int, int, boolean)}.
+	 *
+	 * @param piece
+	 *          the piece moved
+	 * @param fromPosition
+	 *          the from position
+	 * @param toPosition
+	 *          the to position
+	 * @param kinged
+	 *          true if the piece was kinged by the move
+	 * @return the packed move
+	 */
+	protected long toPackedMove(Piece piece, int fromPosition, int toPosition, boolean kinged) {
+		int direction = getRules().getJumpDirection(fromPosition, toPosition);
+		int captured = direction == -1 ? -1 : getRules().getJumped(fromPosition, direction);
+
+		return PackedMove.encode(piece.getColour(), piece.getNumber(), fromPosition, toPosition, captured, kinged);
+	}
+
+	private long toPackedMove(Piece piece, int toPosition, int captured) {
+		boolean promotion = !piece.isKinged() && getRules().isKingRow(piece.getColour(), toPosition);
+
+		return PackedMove.encode(piece.getColour(), piece.getNumber(), piece.getPosition(), toPosition, captured,
+				promotion);
+	}
+
+	private boolean isTurnOf(int pieceColour) {
+		switch (getGameState()) {
+		case FINISHED:
+		case STATELESS:
+			return false;
+		default:
+			break;
+		}
+
+		if (!isIndexedColour(pieceColour)) return false;
+
+		int hasTurn = hasTurn();
+		if (hasTurn >= 0) return hasTurn == pieceColour;
+
+		return getLastPlayer() == -1 || getNextPlayer() == pieceColour;
+	}
+
+	private int generateMoves(Piece piece, long[] into, int count, boolean jumpsOnly) {
+		StandardCheckerRules rules = getRules();
+
+		int position = piece.getPosition();
+		int mask = rules.getDirectionMask(piece.getColour(), piece.isKinged());
+
+		for (int dir = 0; dir < StandardCheckerRules.DIRECTIONS; dir++) {
+			if ((mask & (1 << dir)) == 0) continue;
+
+			int adjacent = rules.getAdjacent(position, dir);
+			if (adjacent == -1) continue;
+
+			Piece toJump = getBoardPiece(adjacent);
+			if (toJump == null) {
+				if (!jumpsOnly) into[count++] = toPackedMove(piece, adjacent, -1);
+				continue;
+			}
+
+			if (toJump.getColour() == piece.getColour()) continue;
+
+			int landing = rules.getLanding(position, dir);
+			if (landing != -1 && getBoardPiece(landing) == null) into[count++] = toPackedMove(piece, landing, adjacent);
+		}
+
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#copy()
+	 */
+	@Override
+	public StandardCheckerGame copy() {
+		StandardCheckerGame copy = new StandardCheckerGame(getRules());
+
+		copy.copyFrom(this);
+
+		return copy;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.AbstractCheckerGame#copyFrom(com.github.
+	 * mrstampy.checkers4j.api.CheckerGame)
+	 */
+	@Override
+	public void copyFrom(CheckerGame<StandardCheckerRules> game) {
+		super.copyFrom(game);
+
+		Piece other = ((StandardCheckerGame) game).continuing;
+
+		continuing = other == null ? null : getPiece(other.getColour(), other.getNumber());
+
+		int otherBoard = ((StandardCheckerGame) game).zobristBoard;
+		if (zobristBoard != otherBoard) setZobristBoard(otherBoard);
+	}
+
+	/**
+	 * Makes the specified move as per {@link #tryMove(int, int, int)}, recording
+	 * what is required to reverse it with {@link #unmakeMove()}. If the move
+	 * fails the game's state is unchanged and nothing is recorded.<br>
+	 * <br>
+	 * Listeners are notified of the move as usual; they are not notified when it
+	 * is unmade.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @param toPosition
+	 *          the to position
+	 * @return {@link #MOVE_OK} or the {@link ErrorState#getCode()} of the
+	 *         failure
+	 */
+	@Writable
+	public int makeMove(int pieceColour, int pieceNumber, int toPosition) {
+		long move = toPackedMove(pieceColour, pieceNumber, toPosition);
+
+		Piece piece = getPiece(pieceColour, pieceNumber);
+		Piece captured = PackedMove.isCapture(move) ? getBoardPiece(PackedMove.getCapturedPosition(move)) : null;
+
+		long undo = toUndoState(piece, captured);
+
+		int code = tryMove(pieceColour, pieceNumber, toPosition);
+
+		if (code != MOVE_OK) {
+			restoreUndoState(undo);
+			return code;
+		}
+
+		pushUndo(move, undo);
+
+		return MOVE_OK;
+	}
+
+	/**
+	 * Makes the specified {@link PackedMove}.
+	 *
+	 * @param move
+	 *          the move
+	 * @return {@link #MOVE_OK} or the {@link ErrorState#getCode()} of the
+	 *         failure
+	 * @see #makeMove(int, int, int)
+	 */
+	@Writable
+	public int makeMove(long move) {
+		return makeMove(PackedMove.getColour(move), PackedMove.getNumber(move), PackedMove.getToPosition(move));
+	}
+
+	/**
+	 * Makes the specified {@link PackedMove}, which must be one of those last
+	 * generated by {@link #generateMoves(int, long[])} for the current position,
+	 * recording it for {@link #unmakeMove()}. The move is applied exactly as by
+	 * {@link #makeMove(long)} but without validation; making any other move
+	 * leaves the game in an undefined state. Intended for search.
+	 *
+	 * @param move
+	 *          the generated move
+	 */
+	@Writable
+	public void makeGeneratedMove(long move) {
+		int pieceColour = PackedMove.getColour(move);
+		Piece piece = getPiece(pieceColour, PackedMove.getNumber(move));
+
+		int jumpPosition = PackedMove.getCapturedPosition(move);
+		Piece toJump = jumpPosition == -1 ? null : getBoardPiece(jumpPosition);
+
+		pushUndo(move, toUndoState(piece, toJump));
+
+		beginTurn(pieceColour);
+
+		if (toJump != null) jump(toJump, jumpPosition);
+
+		int fromPosition = piece.getPosition();
+		int toPosition = PackedMove.getToPosition(move);
+
+		movePiece(piece, fromPosition, toPosition, toJump != null);
+
+		if (PackedMove.isPromotion(move)) king(piece);
+
+		moveMade(piece, fromPosition, toPosition, PackedMove.isPromotion(move));
+
+		endOfGameCheck(piece);
+	}
+
+	/**
+	 * Reverses the last move made by {@link #makeMove(int, int, int)}, restoring
+	 * the pieces, turn and game state exactly as they were before it.
+	 *
+	 * @return the {@link PackedMove} unmade
+	 * @throws IllegalStateException
+	 *           if there is no move to unmake
+	 */
+	@Writable
+	public long unmakeMove() {
+		if (undoCount == 0) throw new IllegalStateException("No move to unmake");
+
+		undoCount--;
+		long move = undoMoves[undoCount];
+		long undo = undoStates[undoCount];
+
+		int toPosition = PackedMove.getToPosition(move);
+		int fromPosition = PackedMove.getFromPosition(move);
+
+		Piece piece = getPiece(PackedMove.getColour(move), PackedMove.getNumber(move));
+
+		setBoardPiece(null, toPosition);
+		piece.setPosition(fromPosition);
+		piece.setKinged(((undo >>> KINGED_SHIFT) & 1) == 1);
+		setBoardPiece(piece, fromPosition);
+
+		int capturedNumber = (int) (undo & NUMBER_MASK) - 1;
+		if (capturedNumber >= 0) {
+			Piece captured = getPiece((int) ((undo >>> CAPTURED_COLOUR_SHIFT) & COLOUR_MASK), capturedNumber);
+			int position = PackedMove.getCapturedPosition(move);
+
+			markUnjumped(captured, position);
+			setBoardPiece(captured, position);
+		}
+
+		restoreUndoState(undo);
+
+		return move;
+	}
+
+	/**
+	 * Returns the number of moves which can be unmade.
+	 *
+	 * @return the undo depth
+	 */
+	public int getUndoDepth() {
+		return undoCount;
+	}
+
+	/**
+	 * Discards all recorded moves; they can no longer be unmade.
+	 */
+	public void clearUndo() {
+		undoCount = 0;
+	}
+
+	private void pushUndo(long move, long undo) {
+		if (undoMoves == null) {
+			undoMoves = new long[64];
+			undoStates = new long[64];
+		} else if (undoCount == undoMoves.length) {
+			undoMoves = Arrays.copyOf(undoMoves, undoCount * 2);
+			undoStates = Arrays.copyOf(undoStates, undoCount * 2);
+		}
+
+		undoMoves[undoCount] = move;
+		undoStates[undoCount] = undo;
+		undoCount++;
+	}
+
+	private long toUndoState(Piece piece, Piece captured) {
+		//@formatter:off
+		return (captured == null ? 0 : captured.getNumber() + 1) |
+				(continuing == null ? 0 : continuing.getNumber() + 1L) << CONTINUING_SHIFT |
+				(hasTurn() + 1L) << TURN_SHIFT |
+				(getLastPlayer() + 1L) << LAST_PLAYER_SHIFT |
+				(getNextPlayer() + 1L) << NEXT_PLAYER_SHIFT |
+				(getWinningColour() + 1L) << WINNING_COLOUR_SHIFT |
+				(long) getGameState().ordinal() << GAME_STATE_SHIFT |
+				(piece != null && piece.isKinged() ? 1L : 0) << KINGED_SHIFT |
+				(captured == null ? 0 : (long) captured.getColour()) << CAPTURED_COLOUR_SHIFT |
+				(continuing == null ? 0 : (long) continuing.getColour()) << CONTINUING_COLOUR_SHIFT;
+		//@formatter:on
+	}
+
+	private void restoreUndoState(long undo) {
+		int continuingNumber = (int) ((undo >>> CONTINUING_SHIFT) & NUMBER_MASK) - 1;
+		int continuingColour = (int) ((undo >>> CONTINUING_COLOUR_SHIFT) & COLOUR_MASK);
+
+		continuing = continuingNumber == -1 ? null : getPiece(continuingColour, continuingNumber);
+
+		//@formatter:off
+		restoreTurnState(
+				(int) ((undo >>> TURN_SHIFT) & COLOUR_MASK) - 1, 
+				(int) ((undo >>> LAST_PLAYER_SHIFT) & COLOUR_MASK) - 1, 
+				(int) ((undo >>> NEXT_PLAYER_SHIFT) & COLOUR_MASK) - 1, 
+				(int) ((undo >>> WINNING_COLOUR_SHIFT) & COLOUR_MASK) - 1, 
+				GAME_STATES[(int) ((undo >>> GAME_STATE_SHIFT) & COLOUR_MASK)]);
+		//@formatter:on
+	}
+
+	/**
+	 * Removes the specified piece from this game. Used by games spanning several
+	 * boards to transfer pieces between them.
+	 *
+	 * @param piece
+	 *          the piece
+	 * @see #addPiece(Piece)
+	 */
+	@Writable
+	@ExposeInternals
+	public void removePiece(Piece piece) {
+		state.remove(piece);
+		removeByColour(piece);
+
+		if (!piece.isJumped()) setBoardPiece(null, piece.getPosition());
+	}
+
+	/**
+	 * Adds the specified piece to this game at its current position.
+	 *
+	 * @param piece
+	 *          the piece
+	 * @see #removePiece(Piece)
+	 */
+	@Writable
+	@ExposeInternals
+	public void addPiece(Piece piece) {
+		state.add(piece);
+		addByColour(piece);
+
+		addPieceToBoard(piece);
+	}
+
+	/**
+	 * Marks the specified piece as jumped and removes it from the board. Used by
+	 * games spanning several boards to capture pieces across them.
+	 *
+	 * @param piece
+	 *          the piece
+	 */
+	@Writable
+	@ExposeInternals
+	public void jumpPiece(Piece piece) {
+		if (piece.isJumped()) return;
+
+		setBoardPiece(null, piece.getPosition());
+		markJumped(piece);
+	}
+
 	/**
 	 * Convenience method to move a piece to a grid position specified by toX and
 	 * toY.
@@ -161,6 +634,41 @@ public class StandardCheckerGame extends AbstractCheckerGame<StandardCheckerRule
 		return getRules().getBoardHeight() * y + x;
 	}
 
+	/**
+	 * Creates the board for the specified rules, a {@link BitCheckerBoard} if the
+	 * board has no more than 64 squares (ie. standard 8x8), else a
+	 * {@link MultiWordCheckerBoard}. Override to supply an alternative
+	 * implementation.
+	 *
+	 * @param rules
+	 *          the rules
+	 * @return the checker board
+	 */
+	protected CheckerBoard createBoard(StandardCheckerRules rules) {
+		int width = rules.getBoardWidth();
+		int height = rules.getBoardHeight();
+
+		//@formatter:off
+		return BitCheckerBoard.fits(width, height) ? 
+				new BitCheckerBoard(width, height) : 
+				new MultiWordCheckerBoard(width, height);
+		//@formatter:on
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.AbstractCheckerGame#king(com.github.mrstampy
+	 * .checkers4j.Piece)
+	 */
+	@Override
+	public void king(Piece piece) {
+		super.king(piece);
+
+		addPieceToBoard(piece);
+	}
+
 	/**
 	 * Exposed, use sparingly.
 	 *
@@ -171,6 +679,18 @@ public class StandardCheckerGame extends AbstractCheckerGame<StandardCheckerRule
 		return board;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.AbstractCheckerGame#endTurn(int)
+	 */
+	@Override
+	public void endTurn(int pieceColour) {
+		super.endTurn(pieceColour);
+
+		continuing = null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -180,7 +700,12 @@ public class StandardCheckerGame extends AbstractCheckerGame<StandardCheckerRule
 	 */
 	@Override
 	protected void setStateImpl(List<Piece> state) {
+		continuing = null;
+		undoCount = 0;
+
 		board.resetBoard();
+		Arrays.fill(squareKeys, 0);
+		zobrist = 0;
 
 		state.forEach(p -> addPieceToBoard(p));
 	}
@@ -215,43 +740,50 @@ public class StandardCheckerGame extends AbstractCheckerGame<StandardCheckerRule
 	 */
 	@Override
 	protected void moveImpl(Piece piece, int toPosition) throws CheckersStateException {
-		int y = getRules().getY(piece.getPosition());
-		int x = getRules().getX(piece.getPosition());
+		int code = tryMoveImpl(piece, toPosition);
 
-		int toY = getRules().getY(toPosition);
-		int toX = getRules().getX(toPosition);
-
-		boolean jumped = evaluateMove(piece, toPosition, y, x, toY, toX);
+		if (code != MOVE_OK) {
+			throw new CheckersStateException(piece.getColour(), piece.getNumber(), toPosition, ErrorState.fromCode(code));
+		}
+	}
 
-		piece.setPosition(toPosition);
-		board.setBoardPiece(piece, toX, toY);
-		board.setBoardPiece(null, x, y);
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.AbstractCheckerGame#tryMoveImpl(com.github
+	 * .mrstampy.checkers4j.Piece, int)
+	 */
+	@Override
+	protected int tryMoveImpl(Piece piece, int toPosition) {
+		int position = piece.getPosition();
 
-		if (endingTurn(jumped, piece)) endTurn(piece.getColour());
-	}
+		if (getBoardPiece(toPosition) != null) return ErrorState.ILLEGAL_MOVE.getCode();
 
-	private boolean evaluateMove(Piece piece, int toPosition, int y, int x, int toY, int toX)
-			throws CheckersStateException {
-		evaluateMoveTo(piece, toPosition, toY, toX);
+		boolean jumped = getRules().getMoveDirection(position, toPosition) == -1;
 
-		if (isJump(x, toX, y, toY)) {
-			evaluateJump(piece, x, y, toPosition, toX, toY);
-			return true;
+		if (jumped) {
+			int code = evaluateJump(piece, position, toPosition);
+			if (code != MOVE_OK) return code;
 		}
 
-		if (isMove(x, toX, y, toY)) return false;
+		movePiece(piece, position, toPosition, jumped);
 
-		throw new CheckersStateException(piece.getColour(), piece.getNumber(), toPosition, ErrorState.ILLEGAL_MOVE,
-				"Cannot move " + piece + " to " + toPosition);
+		return MOVE_OK;
 	}
 
-	private void evaluateMoveTo(Piece piece, int toPosition, int toY, int toX) throws CheckersStateException {
-		Piece toPiece = board.getBoardPiece(toX, toY);
+	private void movePiece(Piece piece, int position, int toPosition, boolean jumped) {
+		piece.setPosition(toPosition);
+		setBoardPiece(piece, toPosition);
+		setBoardPiece(null, position);
 
-		if (toPiece == null) return;
+		listeners.moved(getGameId(), piece.getColour(), piece.getNumber(), position, toPosition);
 
-		throw new CheckersStateException(piece.getColour(), piece.getNumber(), toPosition, ErrorState.ILLEGAL_MOVE,
-				"Cannot move " + piece + " to " + toPosition + " as " + toPiece + " already occupies it");
+		if (endingTurn(jumped, piece)) {
+			endTurn(piece.getColour());
+		} else {
+			continuing = jumped && isAutoEndTurn() ? piece : null;
+		}
 	}
 
 	/**
@@ -276,53 +808,68 @@ public class StandardCheckerGame extends AbstractCheckerGame<StandardCheckerRule
 	}
 
 	private boolean canJump(Piece piece, boolean forward) {
-		int y = getRules().getY(piece.getPosition());
-		int x = getRules().getX(piece.getPosition());
+		int idx = getRules().toCompactIndex(piece.getPosition());
 
-		return board.canJump(forward, x, y);
+		return board.canJump(forward, getRules().getCompactX(idx), getRules().getCompactY(idx));
 	}
 
 	private void addPieceToBoard(Piece piece) {
 		if (piece.isJumped()) return;
 
-		int y = getRules().getY(piece.getPosition());
-		int x = getRules().getX(piece.getPosition());
+		setBoardPiece(piece, piece.getPosition());
+	}
+
+	private Piece getBoardPiece(int position) {
+		int idx = getRules().toCompactIndex(position);
 
-		board.setBoardPiece(piece, x, y);
+		return board.getBoardPiece(getRules().getCompactX(idx), getRules().getCompactY(idx));
 	}
 
-	private void evaluateJump(Piece piece, int x, int y, int toPosition, int toX, int toY) throws CheckersStateException {
-		int jumpX = splitDiff(x, toX);
-		int jumpY = splitDiff(y, toY);
+	/**
+	 * Sets the specified piece, or null, on the board at the specified position
+	 * without validation. Used by games spanning several boards to move pieces
+	 * within a board.
+	 *
+	 * @param piece
+	 *          the piece
+	 * @param position
+	 *          the position
+	 */
+	@Writable
+	@ExposeInternals
+	public void setBoardPiece(Piece piece, int position) {
+		int idx = getRules().toCompactIndex(position);
 
-		Piece toJump = board.getBoardPiece(jumpX, jumpY);
-		if (toJump == null) {
-			throw new CheckersStateException(piece.getColour(), piece.getNumber(), toPosition, ErrorState.ILLEGAL_JUMP,
-					"No piece at " + jumpX + ":" + jumpY + " to jump");
-		}
+		board.setBoardPiece(piece, getRules().getCompactX(idx), getRules().getCompactY(idx));
 
-		if (toJump.getColour() == piece.getColour()) {
-			throw new CheckersStateException(piece.getColour(), piece.getNumber(), toPosition, ErrorState.ILLEGAL_JUMP,
-					"Cannot jump over one's own piece: piece: " + piece + ", to jump: " + toJump);
-		}
+		//@formatter:off
+		long key = piece == null ? 0 : 
+			getRules().getZobristKey(zobristBoard * squareKeys.length + idx, piece.getColour(), piece.isKinged());
+		//@formatter:on
 
-		toJump.jumped();
-		board.setBoardPiece(null, jumpX, jumpY);
+		zobrist ^= squareKeys[idx] ^ key;
+		squareKeys[idx] = key;
 	}
 
-	private boolean isJump(int x, int toX, int y, int toY) {
-		return isMove(x, toX, y, toY, 2);
-	}
+	private int evaluateJump(Piece piece, int position, int toPosition) {
+		int direction = getRules().getJumpDirection(position, toPosition);
+		if (direction == -1) return ErrorState.ILLEGAL_MOVE.getCode();
+
+		int jumpPosition = getRules().getJumped(position, direction);
+
+		Piece toJump = getBoardPiece(jumpPosition);
+		if (toJump == null || toJump.getColour() == piece.getColour()) return ErrorState.ILLEGAL_JUMP.getCode();
+
+		jump(toJump, jumpPosition);
 
-	private boolean isMove(int x, int toX, int y, int toY) {
-		return isMove(x, toX, y, toY, 1);
+		return MOVE_OK;
 	}
 
-	private boolean isMove(int x, int toX, int y, int toY, int factor) {
-		int xDiff = x - toX;
-		int yDiff = y - toY;
+	private void jump(Piece toJump, int jumpPosition) {
+		markJumped(toJump);
+		setBoardPiece(null, jumpPosition);
 
-		return Math.abs(yDiff) == factor && Math.abs(xDiff) == factor;
+		captured(toJump, jumpPosition);
 	}
 
 	private boolean canMoveKing(Piece piece) {
@@ -333,9 +880,8 @@ public class StandardCheckerGame extends AbstractCheckerGame<StandardCheckerRule
 	}
 
 	private boolean canMove(Piece piece, boolean forward) {
-		int y = getRules().getY(piece.getPosition());
-		int x = getRules().getX(piece.getPosition());
+		int idx = getRules().toCompactIndex(piece.getPosition());
 
-		return board.canMoveOrJump(forward, x, y);
+		return board.canMoveOrJump(forward, getRules().getCompactX(idx), getRules().getCompactY(idx));
 	}
 }
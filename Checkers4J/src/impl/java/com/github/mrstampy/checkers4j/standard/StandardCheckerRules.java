@@ -18,6 +18,8 @@
  */
 package com.github.mrstampy.checkers4j.standard;
 
+import java.util.SplittableRandom;
+
 import com.github.mrstampy.checkers4j.Piece;
 import com.github.mrstampy.checkers4j.api.CheckerRules;
 
@@ -53,12 +55,54 @@ public class StandardCheckerRules implements CheckerRules {
 	/** The Constant BLACK. */
 	public static final String BLACK = "BLACK";
 
+	/** Diagonal direction of increasing y and decreasing x. */
+	public static final int FORWARD_LEFT = 0;
+
+	/** Diagonal direction of increasing y and increasing x. */
+	public static final int FORWARD_RIGHT = 1;
+
+	/** Diagonal direction of decreasing y and decreasing x. */
+	public static final int BACKWARD_LEFT = 2;
+
+	/** Diagonal direction of decreasing y and increasing x. */
+	public static final int BACKWARD_RIGHT = 3;
+
+	/** The number of diagonal directions. */
+	public static final int DIRECTIONS = 4;
+
+	/** Direction mask of {@link #WHITE} pieces, which move forward. */
+	public static final int WHITE_DIRECTIONS = (1 << FORWARD_LEFT) | (1 << FORWARD_RIGHT);
+
+	/** Direction mask of {@link #BLACK} pieces, which move backward. */
+	public static final int BLACK_DIRECTIONS = (1 << BACKWARD_LEFT) | (1 << BACKWARD_RIGHT);
+
+	/** Direction mask of kinged pieces. */
+	public static final int KING_DIRECTIONS = WHITE_DIRECTIONS | BLACK_DIRECTIONS;
+
+	private static final int[] DIRECTION_X = { -1, 1, -1, 1 };
+	private static final int[] DIRECTION_Y = { 1, 1, -1, -1 };
+
 	private static final int[] VALID_COLOURS = { WHITE_NUM, BLACK_NUM };
 
+	private static final long ZOBRIST_SEED = 0x3C6EF372FE94F82BL;
+
 	private int boardWidth;
 	private int boardHeight;
 	private int numberOfPieces;
 
+	private int[] compactIndices;
+	private int[] compactPositions;
+	private int[] compactX;
+	private int[] compactY;
+
+	private int[] adjacent;
+	private int[] landing;
+	private int[] jumped;
+
+	private long[] zobristPieceKeys;
+	private long[] zobristTurnKeys;
+	private long[] zobristContinuingKeys;
+
 	/**
 	 * Creates rules for a standard 8x8 checkerboard.
 	 */
@@ -80,6 +124,9 @@ public class StandardCheckerRules implements CheckerRules {
 		this.boardWidth = boardWidth;
 		this.boardHeight = boardHeight;
 		calculateNumberOfPieces();
+		createCompactIndices();
+		createDiagonalTables();
+		createZobristKeys(1);
 	}
 
 	/*
@@ -89,12 +136,251 @@ public class StandardCheckerRules implements CheckerRules {
 	 */
 	public boolean isValidPosition(int position) {
 		if (position == -1) return true;
-		if (position < 0 || position >= getBoardWidth() * getBoardHeight()) return false;
+		if (position < 0 || position >= compactIndices.length) return false;
+
+		return compactIndices[position] != -1;
+	}
+
+	/**
+	 * Returns the number of playable squares on the board, half the number of
+	 * squares.
+	 *
+	 * @return the number of squares
+	 */
+	public int getNumberOfPlayableSquares() {
+		return compactPositions.length;
+	}
+
+	/**
+	 * Returns the compact index of the specified position. Compact indices number
+	 * only the playable squares of the board, starting at zero and increasing
+	 * with position to {@link #getNumberOfPlayableSquares()} - 1. Returns -1 for
+	 * position -1 (jumped) and for unplayable squares.
+	 *
+	 * @param position
+	 *          the position
+	 * @return the compact index
+	 */
+	public int toCompactIndex(int position) {
+		return position == -1 ? -1 : compactIndices[position];
+	}
+
+	/**
+	 * Returns the position of the specified compact index, -1 for compact index
+	 * -1.
+	 *
+	 * @param compactIndex
+	 *          the compact index
+	 * @return the position
+	 * @see #toCompactIndex(int)
+	 */
+	public int toPosition(int compactIndex) {
+		return compactIndex == -1 ? -1 : compactPositions[compactIndex];
+	}
+
+	/**
+	 * Returns the grid X position of the specified compact index.
+	 *
+	 * @param compactIndex
+	 *          the compact index
+	 * @return the compact x
+	 * @see #getX(int)
+	 */
+	public int getCompactX(int compactIndex) {
+		return compactX[compactIndex];
+	}
+
+	/**
+	 * Returns the grid Y position of the specified compact index.
+	 *
+	 * @param compactIndex
+	 *          the compact index
+	 * @return the compact y
+	 * @see #getY(int)
+	 */
+	public int getCompactY(int compactIndex) {
+		return compactY[compactIndex];
+	}
+
+	/**
+	 * Returns the start position of the specified piece as a compact index.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @return the compact start position
+	 * @see #getStartPosition(int, int)
+	 */
+	public int getCompactStartPosition(int pieceColour, int pieceNumber) {
+		return toCompactIndex(getStartPosition(pieceColour, pieceNumber));
+	}
+
+	/**
+	 * Returns the position diagonally adjacent to the specified position in the
+	 * specified direction, -1 if off the board.
+	 *
+	 * @param position
+	 *          the position
+	 * @param direction
+	 *          the direction, {@link #FORWARD_LEFT} to {@link #BACKWARD_RIGHT}
+	 * @return the adjacent position
+	 */
+	public int getAdjacent(int position, int direction) {
+		return adjacent[compactIndices[position] * DIRECTIONS + direction];
+	}
+
+	/**
+	 * Returns the position landed upon when jumping from the specified position
+	 * in the specified direction, -1 if off the board.
+	 *
+	 * @param position
+	 *          the position
+	 * @param direction
+	 *          the direction, {@link #FORWARD_LEFT} to {@link #BACKWARD_RIGHT}
+	 * @return the landing position
+	 */
+	public int getLanding(int position, int direction) {
+		return landing[compactIndices[position] * DIRECTIONS + direction];
+	}
+
+	/**
+	 * Returns the position jumped over when jumping from the specified position
+	 * in the specified direction, -1 if the jump would land off the board.
+	 *
+	 * @param position
+	 *          the position
+	 * @param direction
+	 *          the direction, {@link #FORWARD_LEFT} to {@link #BACKWARD_RIGHT}
+	 * @return the jumped position
+	 */
+	public int getJumped(int position, int direction) {
+		return jumped[compactIndices[position] * DIRECTIONS + direction];
+	}
+
+	/**
+	 * Returns the direction of the simple move from position to toPosition, -1 if
+	 * toPosition is not diagonally adjacent.
+	 *
+	 * @param position
+	 *          the position
+	 * @param toPosition
+	 *          the to position
+	 * @return the move direction
+	 */
+	public int getMoveDirection(int position, int toPosition) {
+		int base = compactIndices[position] * DIRECTIONS;
 
-		boolean evenRow = isEven(getY(position));
-		boolean evenPos = isEven(position);
+		for (int i = 0; i < DIRECTIONS; i++) {
+			if (adjacent[base + i] == toPosition) return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the direction of the jump from position to toPosition, -1 if
+	 * toPosition is not a landing position.
+	 *
+	 * @param position
+	 *          the position
+	 * @param toPosition
+	 *          the to position
+	 * @return the jump direction
+	 */
+	public int getJumpDirection(int position, int toPosition) {
+		int base = compactIndices[position] * DIRECTIONS;
+
+		for (int i = 0; i < DIRECTIONS; i++) {
+			if (landing[base + i] == toPosition) return i;
+		}
 
-		return evenRow ? !evenPos : evenPos;
+		return -1;
+	}
+
+	/**
+	 * Returns the mask of directions, bit n set for direction n, in which a piece
+	 * of the specified colour and kinged status may move.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param kinged
+	 *          the kinged
+	 * @return the direction mask
+	 * @see #WHITE_DIRECTIONS
+	 * @see #BLACK_DIRECTIONS
+	 * @see #KING_DIRECTIONS
+	 */
+	public int getDirectionMask(int pieceColour, boolean kinged) {
+		if (kinged) return KING_DIRECTIONS;
+
+		return pieceColour == WHITE_NUM ? WHITE_DIRECTIONS : BLACK_DIRECTIONS;
+	}
+
+	/**
+	 * Returns the Zobrist key of a piece of the specified colour and kinged
+	 * status on the square with the specified compact index. For games spanning
+	 * several boards the compact index is offset by the board index times
+	 * {@link #getNumberOfPlayableSquares()}. Keys are the same for all rules of
+	 * the same dimensions.
+	 *
+	 * @param compactIndex
+	 *          the compact index
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param kinged
+	 *          the kinged
+	 * @return the key
+	 */
+	public long getZobristKey(int compactIndex, int pieceColour, boolean kinged) {
+		return zobristPieceKeys[(compactIndex << 2) | (pieceColour << 1) | (kinged ? 1 : 0)];
+	}
+
+	/**
+	 * Returns the Zobrist key of the specified colour having the move.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @return the key
+	 */
+	public long getZobristTurnKey(int pieceColour) {
+		return zobristTurnKeys[pieceColour];
+	}
+
+	/**
+	 * Returns the Zobrist key of the piece with the specified number being
+	 * required to continue jumping.
+	 *
+	 * @param pieceNumber
+	 *          the piece number
+	 * @return the key
+	 */
+	public long getZobristContinuingKey(int pieceNumber) {
+		return zobristContinuingKeys[pieceNumber];
+	}
+
+	/**
+	 * Creates the Zobrist keys for a game of the specified number of boards.
+	 *
+	 * @param numBoards
+	 *          the number of boards
+	 */
+	protected void createZobristKeys(int numBoards) {
+		SplittableRandom random = new SplittableRandom(ZOBRIST_SEED);
+
+		zobristPieceKeys = new long[numBoards * getNumberOfPlayableSquares() * 4];
+		zobristTurnKeys = new long[VALID_COLOURS.length];
+		zobristContinuingKeys = new long[numBoards * VALID_COLOURS.length * getNumberOfPieces() + 1];
+
+		fill(zobristPieceKeys, random);
+		fill(zobristTurnKeys, random);
+		fill(zobristContinuingKeys, random);
+	}
+
+	private void fill(long[] keys, SplittableRandom random) {
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = random.nextLong();
+		}
 	}
 
 	/*
@@ -290,8 +576,21 @@ public class StandardCheckerRules implements CheckerRules {
 	public boolean isKingable(Piece piece) {
 		if (piece.isKinged()) return false;
 
-		int pos = piece.getPosition();
-		return BLACK_NUM == piece.getColour() ? pos < getBlackKingLimit() : pos >= getWhiteKingLimit();
+		return isKingRow(piece.getColour(), piece.getPosition());
+	}
+
+	/**
+	 * Returns true if a piece of the specified colour arriving at the specified
+	 * position is to be kinged.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param position
+	 *          the position
+	 * @return true, if is king row
+	 */
+	public boolean isKingRow(int pieceColour, int position) {
+		return BLACK_NUM == pieceColour ? position < getBlackKingLimit() : position >= getWhiteKingLimit();
 	}
 
 	/**
@@ -336,6 +635,62 @@ public class StandardCheckerRules implements CheckerRules {
 		this.numberOfPieces = getPiecesPerRow() * getRows();
 	}
 
+	private void createCompactIndices() {
+		int squares = getBoardWidth() * getBoardHeight();
+
+		compactIndices = new int[squares];
+		compactPositions = new int[squares / 2];
+		compactX = new int[squares / 2];
+		compactY = new int[squares / 2];
+
+		int idx = 0;
+		for (int position = 0; position < squares; position++) {
+			boolean evenRow = isEven(getY(position));
+			boolean evenPos = isEven(position);
+
+			if (evenRow == evenPos) {
+				compactIndices[position] = -1;
+				continue;
+			}
+
+			compactIndices[position] = idx;
+			compactPositions[idx] = position;
+			compactX[idx] = getX(position);
+			compactY[idx] = getY(position);
+			idx++;
+		}
+	}
+
+	private void createDiagonalTables() {
+		int size = getNumberOfPlayableSquares() * DIRECTIONS;
+
+		adjacent = new int[size];
+		landing = new int[size];
+		jumped = new int[size];
+
+		for (int idx = 0; idx < getNumberOfPlayableSquares(); idx++) {
+			int x = getCompactX(idx);
+			int y = getCompactY(idx);
+
+			for (int dir = 0; dir < DIRECTIONS; dir++) {
+				int i = idx * DIRECTIONS + dir;
+
+				int dx = DIRECTION_X[dir];
+				int dy = DIRECTION_Y[dir];
+
+				adjacent[i] = toGridPosition(x + dx, y + dy);
+				landing[i] = toGridPosition(x + 2 * dx, y + 2 * dy);
+				jumped[i] = landing[i] == -1 ? -1 : adjacent[i];
+			}
+		}
+	}
+
+	private int toGridPosition(int x, int y) {
+		if (x < 0 || x >= getBoardWidth() || y < 0 || y >= getBoardHeight()) return -1;
+
+		return y * getBoardHeight() + x;
+	}
+
 	/**
 	 * Checks if is even.
 	 *
@@ -29,6 +29,8 @@ import com.github.mrstampy.checkers4j.PieceState;
 import com.github.mrstampy.checkers4j.annotation.ExposeInternals;
 import com.github.mrstampy.checkers4j.annotation.Writable;
 import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.api.listener.CheckerGameListener;
+import com.github.mrstampy.checkers4j.api.listener.CheckerGameListeners;
 import com.github.mrstampy.checkers4j.ex.CheckersStateException;
 import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
 import com.github.mrstampy.checkers4j.standard.StandardCheckerRules;
@@ -50,6 +52,10 @@ public abstract class AbstractThreeDStandardCheckerGame implements CheckerGame<T
 	private GameState gameState = GameState.STATELESS;
 	private long endTime;
 	private long startTime;
+	private boolean autoEndTurn = true;
+
+	/** The listeners, never null. */
+	protected final CheckerGameListeners listeners = new CheckerGameListeners();
 
 	/**
 	 * Instantiates a new threeD standard checker game with two boards.
@@ -118,7 +124,7 @@ public abstract class AbstractThreeDStandardCheckerGame implements CheckerGame<T
 	 */
 	@Override
 	public void beginTurn(int pieceColour) {
-		if (GameState.INITIALIZED == getGameState()) setGameState(GameState.STARTED);
+		if (GameState.INITIALIZED == getGameState()) setGameStateInternal(GameState.STARTED);
 
 		boards.forEach(scg -> scg.beginTurn(pieceColour));
 	}
@@ -226,7 +232,32 @@ public abstract class AbstractThreeDStandardCheckerGame implements CheckerGame<T
 	 */
 	@Override
 	public void endTurn(int pieceColour) {
+		boolean hadTurn = hasTurn() == pieceColour;
+
 		boards.forEach(scg -> scg.endTurn(pieceColour));
+
+		if (hadTurn) listeners.turnEnded(gameId, pieceColour);
+	}
+
+	/**
+	 * Adds a listener to be notified of changes to this game. Positions are
+	 * absolute.
+	 *
+	 * @param listener
+	 *          the listener
+	 */
+	public void addListener(CheckerGameListener listener) {
+		listeners.addListener(listener);
+	}
+
+	/**
+	 * Removes the listener.
+	 *
+	 * @param listener
+	 *          the listener
+	 */
+	public void removeListener(CheckerGameListener listener) {
+		listeners.removeListener(listener);
 	}
 
 	/*
@@ -292,6 +323,8 @@ public abstract class AbstractThreeDStandardCheckerGame implements CheckerGame<T
 	@Override
 	public void draw() {
 		boards.forEach(scg -> scg.draw());
+
+		setGameStateInternal(GameState.FINISHED);
 	}
 
 	/**
@@ -351,7 +384,7 @@ public abstract class AbstractThreeDStandardCheckerGame implements CheckerGame<T
 	 */
 	@Override
 	public boolean isAutoEndTurn() {
-		return boards.get(0).isAutoEndTurn();
+		return autoEndTurn;
 	}
 
 	/**
@@ -362,7 +395,7 @@ public abstract class AbstractThreeDStandardCheckerGame implements CheckerGame<T
 	 */
 	@Writable
 	public void setAutoEndTurn(boolean autoEndTurn) {
-		boards.forEach(scg -> scg.setAutoEndTurn(autoEndTurn));
+		this.autoEndTurn = autoEndTurn;
 	}
 
 	/**
@@ -388,6 +421,29 @@ public abstract class AbstractThreeDStandardCheckerGame implements CheckerGame<T
 		}
 	}
 
+	/**
+	 * Sets the game's state as per {@link #setGameState(GameState)}, notifying
+	 * listeners on {@link GameState#STARTED} and {@link GameState#FINISHED}.
+	 * Invoked on the game's transitions only, so that restoring or copying a
+	 * game's state does not notify listeners.
+	 *
+	 * @param gameState
+	 *          the new game state internal
+	 */
+	@SuppressWarnings("incomplete-switch")
+	protected void setGameStateInternal(GameState gameState) {
+		setGameState(gameState);
+
+		switch (gameState) {
+		case FINISHED:
+			listeners.finished(gameId, getWinningColour(), isDraw());
+			break;
+		case STARTED:
+			listeners.started(gameId);
+			break;
+		}
+	}
+
 	/**
 	 * Sets the start time.
 	 *
@@ -485,8 +541,61 @@ public abstract class AbstractThreeDStandardCheckerGame implements CheckerGame<T
 		return gameState;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.api.CheckerGame#copyFrom(com.github.mrstampy
+	 * .checkers4j.api.CheckerGame)
+	 */
+	@Override
+	public void copyFrom(CheckerGame<ThreeDStandardCheckerRules> game) {
+		if (!getClass().isInstance(game) || !isSameDimensions(game.getRules())) {
+			throw new IllegalArgumentException("Cannot copy " + game.getGameName() + " into " + getGameName());
+		}
+
+		AbstractThreeDStandardCheckerGame other = (AbstractThreeDStandardCheckerGame) game;
+
+		for (int i = 0; i < boards.size(); i++) {
+			boards.get(i).copyFrom(other.boards.get(i));
+		}
+
+		lastBoardIdx = other.lastBoardIdx;
+		gameId = other.gameId;
+		gameState = other.gameState;
+		endTime = other.endTime;
+		startTime = other.startTime;
+		autoEndTurn = other.autoEndTurn;
+	}
+
+	private boolean isSameDimensions(ThreeDStandardCheckerRules other) {
+		//@formatter:off
+		return rules.getNumBoards() == other.getNumBoards() && 
+				rules.getBoardWidth() == other.getBoardWidth() && 
+				rules.getBoardHeight() == other.getBoardHeight();
+		//@formatter:on
+	}
+
 	/**
-	 * Can move.
+	 * Returns the number of pieces of the specified colour which have not been
+	 * jumped, across all boards.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @return the pieces in play
+	 */
+	public int getPiecesInPlay(int pieceColour) {
+		int inPlay = 0;
+		for (int i = 0; i < boards.size(); i++) {
+			inPlay += boards.get(i).getPiecesInPlay(pieceColour);
+		}
+
+		return inPlay;
+	}
+
+	/**
+	 * Can move. Each board is checked as a whole before moves across boards are
+	 * checked.
 	 *
 	 * @param pieceColour
 	 *          the piece colour
@@ -494,16 +603,29 @@ public abstract class AbstractThreeDStandardCheckerGame implements CheckerGame<T
 	 */
 	@Override
 	public boolean canMove(int pieceColour) {
-		if (boards.stream().filter(scg -> scg.canMove(pieceColour)).findAny().isPresent()) return true;
+		for (int i = 0; i < boards.size(); i++) {
+			if (boards.get(i).canMove(pieceColour)) return true;
+		}
 
 		return canMoveAcrossBoards(pieceColour);
 	}
 
-	private boolean canMoveAcrossBoards(int pieceColour) {
+	/**
+	 * Returns true if any piece of the specified colour can move or jump onto
+	 * another board. This implementation checks each piece in turn.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @return true, if successful
+	 */
+	protected boolean canMoveAcrossBoards(int pieceColour) {
 		for (int i = 0; i < boards.size(); i++) {
-			StandardCheckerGame scg = boards.get(i);
-			int idx = i;
-			if (scg.getState().stream().filter(p -> canMoveAcrossBoards(p, idx)).findAny().isPresent()) return true;
+			List<Piece> pieces = boards.get(i).getFullState();
+
+			for (int j = 0; j < pieces.size(); j++) {
+				Piece p = pieces.get(j);
+				if (p.getColour() == pieceColour && !p.isJumped() && canMoveAcrossBoards(p, i)) return true;
+			}
 		}
 		return false;
 	}
@@ -20,11 +20,9 @@ package com.github.mrstampy.checkers4j.standard.threeD;
 
 import java.util.List;
 
-import com.github.mrstampy.checkers4j.PieceState;
 import com.github.mrstampy.checkers4j.api.recorder.CheckerGameRecorder;
 import com.github.mrstampy.checkers4j.api.recorder.Move;
 import com.github.mrstampy.checkers4j.api.recorder.RecordableCheckerGame;
-import com.github.mrstampy.checkers4j.ex.CheckersStateException;
 
 // TODO: Auto-generated Javadoc
 /**
@@ -85,13 +83,13 @@ public class RecordableThreeDStandardCheckerGame extends ThreeDStandardCheckerGa
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see com.github.mrstampy.checkers4j.AbstractCheckerGame#move(int, int, int)
+	 * @see
+	 * com.github.mrstampy.checkers4j.standard.threeD.ThreeDStandardCheckerGame#
+	 * moveMade(long)
 	 */
 	@Override
-	public List<PieceState> move(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException {
-		recorder.addMove(getGameId(), pieceColour, pieceNumber, toPosition);
-
-		return super.move(pieceColour, pieceNumber, toPosition);
+	protected void moveMade(long move) {
+		recorder.addMove(getGameId(), move);
 	}
 
 	/*
@@ -106,6 +104,17 @@ public class RecordableThreeDStandardCheckerGame extends ThreeDStandardCheckerGa
 		return recorder.getMoves();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.github.mrstampy.checkers4j.api.recorder.Recordable#getPackedMoves()
+	 */
+	@Override
+	public long[] getPackedMoves() {
+		return recorder.getPackedMoves();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
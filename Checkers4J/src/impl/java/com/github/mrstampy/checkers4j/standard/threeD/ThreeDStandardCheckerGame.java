@@ -25,10 +25,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import com.github.mrstampy.checkers4j.Piece;
 import com.github.mrstampy.checkers4j.PieceState;
+import com.github.mrstampy.checkers4j.annotation.Writable;
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.api.MoveOutcome;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
 import com.github.mrstampy.checkers4j.ex.CheckersStateException;
 import com.github.mrstampy.checkers4j.ex.CheckersStateException.ErrorState;
 import com.github.mrstampy.checkers4j.standard.CheckerBoard;
@@ -63,6 +66,13 @@ public class ThreeDStandardCheckerGame extends AbstractThreeDStandardCheckerGame
 	/** The Constant GAME_NAME. */
 	public static final String GAME_NAME = "Three D Standard Checkers";
 
+	/** The number of directions in which a piece can move. */
+	public static final int DIRECTIONS = 12;
+
+	private int continuing = -1;
+
+	private transient MoveOutcome outcome;
+
 	/**
 	 * Instantiates a new threeD standard checker game with two boards.
 	 */
@@ -128,7 +138,13 @@ public class ThreeDStandardCheckerGame extends AbstractThreeDStandardCheckerGame
 		int nb = getNumBoards();
 
 		for (int i = 0; i < nb; i++) {
-			boards.add(new StandardCheckerGame(rules));
+			StandardCheckerGame scg = new StandardCheckerGame(rules);
+
+			// turns are ended by this game, not the boards
+			scg.setAutoEndTurn(false);
+			scg.setZobristBoard(i);
+
+			boards.add(scg);
 		}
 
 		setGameState(GameState.INITIALIZED);
@@ -149,67 +165,394 @@ public class ThreeDStandardCheckerGame extends AbstractThreeDStandardCheckerGame
 	 */
 	@Override
 	public List<PieceState> move(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException {
+		movePiece(pieceColour, pieceNumber, toPosition);
+
+		return getState();
+	}
+
+	/**
+	 * Moves the specified piece as per {@link #move(int, int, int)} without
+	 * generating the resulting state.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @param toPosition
+	 *          the to position, must be absolute
+	 * @throws CheckersStateException
+	 *           the checkers state exception
+	 */
+	@Writable
+	public void movePiece(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException {
 		moveCheck(pieceColour, pieceNumber, toPosition);
 
 		beginTurn(pieceColour);
 
 		if (GameState.STARTED != getGameState()) {
-			throw new CheckersStateException(ErrorState.ILLEGAL_STATE, "Game " + getGameId() + " not started");
+			throw new CheckersStateException(pieceColour, pieceNumber, toPosition, ErrorState.ILLEGAL_STATE);
 		}
 
-		int toBoardIdx = getBoardIndex(toPosition);
+		int code = moveChecked(pieceColour, pieceNumber, toPosition);
+
+		if (code != MOVE_OK) {
+			throw new CheckersStateException(pieceColour, pieceNumber, toPosition, ErrorState.fromCode(code));
+		}
+	}
+
+	/**
+	 * Moves as per {@link #move(int, int, int)}, describing what happened in the
+	 * specified outcome. Positions are absolute.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @param toPosition
+	 *          the to position, must be absolute
+	 * @param outcome
+	 *          the outcome to reset and fill
+	 * @return the outcome
+	 * @throws CheckersStateException
+	 *           the checkers state exception
+	 */
+	@Override
+	@Writable
+	public MoveOutcome move(int pieceColour, int pieceNumber, int toPosition, MoveOutcome outcome)
+			throws CheckersStateException {
+		outcome.reset(pieceColour, pieceNumber, toPosition);
+
+		int boardIdx = isValidPieceNumber(pieceNumber) ? getBoardIndexByNum(pieceNumber) : -1;
+		Piece piece = boardIdx == -1 ? null : getPiece(pieceColour, pieceNumber, boardIdx);
+		boolean wasKinged = piece != null && piece.isKinged();
+
+		this.outcome = outcome;
+		try {
+			movePiece(pieceColour, pieceNumber, toPosition);
+		} finally {
+			this.outcome = null;
+		}
+
+		outcome.setKinged(!wasKinged && piece.isKinged());
+		outcome.setTurnEnded(hasTurn() != pieceColour);
+		outcome.setFinished(GameState.FINISHED == getGameState());
+		outcome.setWinningColour(getWinningColour());
+
+		return outcome;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#tryMove(int, int, int)
+	 */
+	@Override
+	@Writable
+	public int tryMove(int pieceColour, int pieceNumber, int toPosition) {
+		if (!isValidPieceColour(pieceColour) || !isValidPosition(toPosition)
+				|| !isValidPieceNumber(pieceNumber)) {
+			return ErrorState.ILLEGAL_VALUE.getCode();
+		}
+
+		int hasTurn = hasTurn();
+		if (hasTurn >= 0 && hasTurn != pieceColour) return ErrorState.OUT_OF_TURN.getCode();
+
+		switch (getGameState()) {
+		case FINISHED:
+		case STATELESS:
+			return ErrorState.ILLEGAL_STATE.getCode();
+		default:
+			break;
+		}
+
+		beginTurn(pieceColour);
+
+		return moveChecked(pieceColour, pieceNumber, toPosition);
+	}
+
+	private int moveChecked(int pieceColour, int pieceNumber, int toPosition) {
+		if (GameState.STARTED != getGameState()) return ErrorState.ILLEGAL_STATE.getCode();
 
 		int boardIdx = getBoardIndexByNum(pieceNumber);
 
-		Piece piece = checkPiece(pieceColour, pieceNumber, toPosition, boardIdx);
+		Piece piece = boardIdx == -1 ? null : getPiece(pieceColour, pieceNumber, boardIdx);
 
-		boolean jumped = false;
-		if (boardIdx == toBoardIdx) {
-			boards.get(boardIdx).move(pieceColour, pieceNumber, getRelativePosition(toPosition, boardIdx));
-		} else {
-			jumped = moveAcrossBoards(pieceColour, pieceNumber, toPosition, boardIdx, toBoardIdx);
+		if (piece == null || piece.isJumped()) return ErrorState.ILLEGAL_STATE.getCode();
+
+		int toBoardIdx = getBoardIndex(toPosition);
+		int relativePosition = getRelativePosition(toPosition, toBoardIdx);
+
+		if (!getRules().isValidPosition(relativePosition)) return ErrorState.ILLEGAL_VALUE.getCode();
+
+		int x = getRules().getX(piece.getPosition());
+		int y = getRules().getY(piece.getPosition());
+		int toX = getRules().getX(relativePosition);
+		int toY = getRules().getY(relativePosition);
+
+		int dx = toX - x;
+		int dy = toY - y;
+		int dz = toBoardIdx - boardIdx;
+
+		if (!isDiagonal(dx, dy, dz) || !isDirectionAllowed(piece, dy) || !isEmptyAt(toX, toY, toBoardIdx)) {
+			return ErrorState.ILLEGAL_MOVE.getCode();
 		}
 
+		boolean jumped = Math.abs(dy) == 2;
+		int captured = -1;
+		if (jumped) {
+			int code = jump(piece, x + dx / 2, y + dy / 2, boardIdx + dz / 2);
+			if (code != MOVE_OK) return code;
+
+			captured = getAbsolutePosition(x + dx / 2, y + dy / 2, boardIdx + dz / 2);
+		}
+
+		int fromPosition = piece.getPosition() + getZFactor(boardIdx);
+
+		movePiece(piece, boardIdx, toBoardIdx, relativePosition);
+
+		listeners.moved(getGameId(), pieceColour, pieceNumber, fromPosition, toPosition);
+
 		setLastBoardIdx(toBoardIdx);
 
-		if (getRules().isKingable(piece)) piece.setKinged(true);
+		boolean kinged = getRules().isKingable(piece);
+		if (kinged) {
+			boards.get(toBoardIdx).king(piece);
+			listeners.kinged(getGameId(), pieceColour, pieceNumber, toPosition);
+		}
+
+		moveMade(PackedMove.encode(pieceColour, pieceNumber, fromPosition, toPosition, captured, kinged));
 
-		if (endingTurn(jumped, piece)) endTurn(pieceColour);
+		if (endingTurn(jumped, piece)) {
+			endTurn(pieceColour);
+		} else {
+			continuing = jumped && isAutoEndTurn() ? pieceNumber : -1;
+		}
 
 		endOfGameCheck(piece);
 
-		return getState();
+		return MOVE_OK;
 	}
 
-	private void moveCheck(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException {
-		assert getRules().isValidPieceColour(pieceColour);
+	/**
+	 * Invoked after every successful move, however made, before the turn is ended
+	 * and the end of game check. Does nothing by default; override to observe
+	 * the moves made.
+	 *
+	 * @param move
+	 *          the {@link PackedMove} made, positions absolute
+	 */
+	protected void moveMade(long move) {
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.standard.threeD.
+	 * AbstractThreeDStandardCheckerGame#endTurn(int)
+	 */
+	@Override
+	public void endTurn(int pieceColour) {
+		super.endTurn(pieceColour);
+
+		continuing = -1;
+	}
 
-		if (!isValidPosition(toPosition)) {
-			throw new CheckersStateException(pieceColour, pieceNumber, toPosition, ErrorState.ILLEGAL_VALUE, "To position "
-					+ toPosition + " is not valid");
+	/**
+	 * Writes the {@link PackedMove}s of all legal moves of the specified colour
+	 * into the specified array. Positions are absolute.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param into
+	 *          the array to write to
+	 * @return the number of moves written
+	 * @see CheckerGame#generateMoves(int, long[])
+	 */
+	@Override
+	public int generateMoves(int pieceColour, long[] into) {
+		if (!isTurnOf(pieceColour)) return 0;
+
+		if (continuing != -1) {
+			int boardIdx = getBoardIndexByNum(continuing);
+
+			return generateMoves(getPiece(pieceColour, continuing, boardIdx), boardIdx, into, 0, true);
 		}
 
-		if (!isValidPieceNumber(pieceNumber)) {
-			throw new CheckersStateException(pieceColour, pieceNumber, toPosition, ErrorState.ILLEGAL_VALUE, "Piece number "
-					+ pieceNumber + " is not valid");
+		int count = 0;
+		for (int i = 0; i < boards.size(); i++) {
+			List<Piece> pieces = boards.get(i).getFullState();
+
+			for (int j = 0; j < pieces.size(); j++) {
+				Piece piece = pieces.get(j);
+				if (piece.getColour() == pieceColour && !piece.isJumped()) count = generateMoves(piece, i, into, count, false);
+			}
 		}
+
+		return count;
 	}
 
-	private Piece checkPiece(int pieceColour, int pieceNumber, int toPosition, int boardIdx)
-			throws CheckersStateException {
-		Piece piece = getPiece(pieceColour, pieceNumber, boardIdx);
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#getMaxMoves()
+	 */
+	@Override
+	public int getMaxMoves() {
+		return getNumBoards() * getRules().getNumberOfPieces() * DIRECTIONS;
+	}
 
-		if (piece == null) {
-			throw new CheckersStateException(pieceColour, pieceNumber, toPosition, ErrorState.ILLEGAL_STATE, "Piece "
-					+ getRules().toColourName(pieceColour) + "-" + pieceNumber + " not found on board index " + boardIdx);
+	private boolean isTurnOf(int pieceColour) {
+		switch (getGameState()) {
+		case FINISHED:
+		case STATELESS:
+			return false;
+		default:
+			break;
 		}
 
-		if (!piece.directionCheck(toPosition)) {
-			throw new CheckersStateException(pieceColour, pieceNumber, toPosition, ErrorState.ILLEGAL_MOVE, "Cannot move "
-					+ piece + " to " + toPosition);
+		if (!isValidPieceColour(pieceColour)) return false;
+
+		int hasTurn = hasTurn();
+		if (hasTurn >= 0) return hasTurn == pieceColour;
+
+		return getLastPlayer() == -1 || getNextPlayer() == pieceColour;
+	}
+
+	private int generateMoves(Piece piece, int boardIdx, long[] into, int count, boolean jumpsOnly) {
+		int x = getRules().getX(piece.getPosition());
+		int y = getRules().getY(piece.getPosition());
+
+		for (int dy = -1; dy <= 1; dy += 2) {
+			if (!isDirectionAllowed(piece, dy)) continue;
+
+			for (int dz = -1; dz <= 1; dz++) {
+				for (int dx = -1; dx <= 1; dx += 2) {
+					int ax = x + dx;
+					int ay = y + dy;
+					int az = boardIdx + dz;
+					if (!isValid(ax, ay, az)) continue;
+
+					Piece toJump = getBoardPiece(ax, ay, az);
+					if (toJump == null) {
+						if (!jumpsOnly) into[count++] = toPackedMove(piece, boardIdx, getAbsolutePosition(ax, ay, az), -1);
+						continue;
+					}
+
+					if (toJump.getColour() == piece.getColour()) continue;
+
+					if (canMoveTo(ax + dx, ay + dy, az + dz)) {
+						int landing = getAbsolutePosition(ax + dx, ay + dy, az + dz);
+						into[count++] = toPackedMove(piece, boardIdx, landing, getAbsolutePosition(ax, ay, az));
+					}
+				}
+			}
+		}
+
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.api.CheckerGame#copy()
+	 */
+	@Override
+	public ThreeDStandardCheckerGame copy() {
+		ThreeDStandardCheckerRules rules = getRules();
+
+		ThreeDStandardCheckerGame copy = new ThreeDStandardCheckerGame(rules.getNumBoards(), rules.getBoardWidth(),
+				rules.getBoardHeight());
+
+		copy.copyFrom(this);
+
+		return copy;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.github.mrstampy.checkers4j.standard.threeD.
+	 * AbstractThreeDStandardCheckerGame
+	 * #copyFrom(com.github.mrstampy.checkers4j.api.CheckerGame)
+	 */
+	@Override
+	public void copyFrom(CheckerGame<ThreeDStandardCheckerRules> game) {
+		super.copyFrom(game);
+
+		continuing = ((ThreeDStandardCheckerGame) game).continuing;
+	}
+
+	/**
+	 * Returns the Zobrist hash of the position: the pieces on all boards, the
+	 * colour to move and any piece required to continue jumping. The pieces of
+	 * each board are hashed incrementally as they are moved, jumped and kinged.
+	 *
+	 * @return the hash
+	 * @see StandardCheckerGame#getZobristPieceHash()
+	 */
+	public long getZobristHash() {
+		long hash = 0;
+		for (int i = 0; i < boards.size(); i++) {
+			hash ^= boards.get(i).getZobristPieceHash();
 		}
 
-		return piece;
+		int hasTurn = hasTurn();
+		int toMove = hasTurn >= 0 ? hasTurn : getLastPlayer() == -1 ? -1 : getNextPlayer();
+
+		if (toMove >= 0) hash ^= getRules().getZobristTurnKey(toMove);
+		if (continuing != -1) hash ^= getRules().getZobristContinuingKey(continuing);
+
+		return hash;
+	}
+
+	private boolean isDiagonal(int dx, int dy, int dz) {
+		int d = Math.abs(dx);
+
+		return (d == 1 || d == 2) && d == Math.abs(dy) && (dz == 0 || d == Math.abs(dz));
+	}
+
+	private boolean isDirectionAllowed(Piece piece, int dy) {
+		return piece.isKinged() || (piece.getColour() == WHITE_NUM ? dy > 0 : dy < 0);
+	}
+
+	private int jump(Piece piece, int x, int y, int boardIdx) {
+		Piece toJump = getBoardPiece(x, y, boardIdx);
+
+		if (toJump == null || toJump.getColour() == piece.getColour()) return ErrorState.ILLEGAL_JUMP.getCode();
+
+		boards.get(boardIdx).jumpPiece(toJump);
+
+		int position = getAbsolutePosition(x, y, boardIdx);
+
+		listeners.captured(getGameId(), toJump.getColour(), toJump.getNumber(), position);
+
+		if (outcome != null) outcome.setCaptured(toJump.getColour(), toJump.getNumber(), position);
+
+		return MOVE_OK;
+	}
+
+	private void movePiece(Piece piece, int boardIdx, int toBoardIdx, int relativePosition) {
+		StandardCheckerGame from = boards.get(boardIdx);
+
+		if (boardIdx == toBoardIdx) {
+			from.setBoardPiece(null, piece.getPosition());
+			piece.setPosition(relativePosition);
+			from.setBoardPiece(piece, relativePosition);
+		} else {
+			StandardCheckerGame to = boards.get(toBoardIdx);
+
+			from.removePiece(piece);
+			piece.setPosition(relativePosition);
+			to.addPiece(piece);
+		}
+	}
+
+	private void moveCheck(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException {
+		assert getRules().isValidPieceColour(pieceColour);
+
+		if (!isValidPosition(toPosition) || !isValidPieceNumber(pieceNumber)) {
+			throw new CheckersStateException(pieceColour, pieceNumber, toPosition, ErrorState.ILLEGAL_VALUE);
+		}
 	}
 
 	private boolean endingTurn(boolean jumped, Piece piece) {
@@ -331,127 +674,40 @@ public class ThreeDStandardCheckerGame extends AbstractThreeDStandardCheckerGame
 		if (otherColoursInPlay(piece.getColour())) return;
 
 		setWinningColour(piece.getColour());
-		setGameState(GameState.FINISHED);
+		setGameStateInternal(GameState.FINISHED);
 	}
 
-	private boolean otherColoursInPlay(int colour) {
-		for (StandardCheckerGame scg : boards) {
-			if (scg.getFullState().stream().filter(p -> evalPlayable(p, colour)).findAny().isPresent()) {
-				return true;
-			}
+	private boolean otherColoursInPlay(int pieceColour) {
+		for (int colour : getRules().getValidColours()) {
+			if (colour == pieceColour) continue;
+
+			if (getPiecesInPlay(colour) > 0 && canMove(colour)) return true;
 		}
 
 		return false;
 	}
 
-	private boolean evalPlayable(Piece p, int colour) {
-		return p.getColour() == colour ? false : canMove(p);
-	}
-
-	// returns whether or not a jump was performed
-	private boolean moveAcrossBoards(int pieceColour, int pieceNumber, int toPosition, int boardIdx, int toBoardIdx)
-			throws CheckersStateException {
-		int diff = Math.abs(boardIdx - toBoardIdx);
-		if (diff > 2) {
-			throw new CheckersStateException(pieceColour, pieceNumber, toPosition, ErrorState.ILLEGAL_MOVE, "Cannot move to "
-					+ toPosition + " as it is across " + diff + " boards");
-		}
-
-		Piece piece = getPiece(pieceColour, pieceNumber, boardIdx);
+	private Piece getPiece(int pieceColour, int pieceNumber, int boardIdx) {
+		List<Piece> pieces = boards.get(boardIdx).getFullState();
 
-		switch (diff) {
-		case 1:
-			moveBoards(piece, boardIdx, toBoardIdx, getRelativePosition(toPosition, toBoardIdx));
-			return false;
-		case 2:
-			jumpBoards(piece, boardIdx, toBoardIdx, getRelativePosition(toPosition, toBoardIdx));
-			break;
+		for (int i = 0; i < pieces.size(); i++) {
+			Piece p = pieces.get(i);
+			if (p.getColour() == pieceColour && p.getNumber() == pieceNumber) return p;
 		}
 
-		return true;
+		return null;
 	}
 
-	private void jumpBoards(Piece piece, int boardIdx, int toBoardIdx, int relativePosition)
-			throws CheckersStateException {
-		StandardCheckerGame from = boards.get(boardIdx);
-		StandardCheckerGame to = boards.get(toBoardIdx);
-
-		evalMovable(to, relativePosition, toBoardIdx);
-
-		int toX = getRules().getX(relativePosition);
-		int toY = getRules().getY(relativePosition);
-
-		int fromX = getRules().getX(piece.getPosition());
-		int fromY = getRules().getY(piece.getPosition());
-
-		int jX = splitDiff(fromX, toX);
-		int jY = splitDiff(fromY, toY);
-
-		Piece toJump = boards.get(splitDiff(boardIdx, toBoardIdx)).getBoard().getBoardPiece(jX, jY);
-
-		if (toJump == null || toJump.getColour() == piece.getColour()) {
-			throw new CheckersStateException(piece.getColour(), piece.getNumber(), ErrorState.ILLEGAL_JUMP,
-					"Cannot jump piece " + toJump + " with " + piece + " from board " + boardIdx + " to " + toBoardIdx);
+	private boolean isValidPieceColour(int pieceColour) {
+		for (int colour : getRules().getValidColours()) {
+			if (colour == pieceColour) return true;
 		}
 
-		toJump.jumped();
-
-		moveBoards(piece, relativePosition, from, to);
-	}
-
-	private void moveBoards(Piece piece, int boardIdx, int toBoardIdx, int relativePosition)
-			throws CheckersStateException {
-		StandardCheckerGame from = boards.get(boardIdx);
-		StandardCheckerGame to = boards.get(toBoardIdx);
-
-		evalMovable(to, relativePosition, toBoardIdx);
-
-		moveBoards(piece, relativePosition, from, to);
-	}
-
-	private void moveBoards(Piece piece, int relativePosition, StandardCheckerGame from, StandardCheckerGame to) {
-		List<Piece> fromList = from.getFullState();
-		List<Piece> toList = to.getFullState();
-
-		fromList.remove(piece);
-		toList.add(piece);
-
-		piece.setPosition(relativePosition);
-
-		from.setState(fromList);
-		to.setState(toList);
-	}
-
-	private void evalMovable(StandardCheckerGame to, int relativePosition, int toBoardIdx) throws CheckersStateException {
-		Piece p = getPiece(to, relativePosition);
-
-		if (p == null) return;
-
-		throw new CheckersStateException(ErrorState.ILLEGAL_STATE, p + " occupies position " + relativePosition);
-	}
-
-	private Piece getPiece(StandardCheckerGame to, int relativePosition) {
-		CheckerBoard cb = to.getBoard();
-
-		int x = getRules().getX(relativePosition);
-		int y = getRules().getY(relativePosition);
-
-		return cb.getBoardPiece(x, y);
-	}
-
-	private Piece getPiece(int pieceColour, int pieceNumber, int boardIdx) {
-		Optional<Piece> o = boards.get(boardIdx).getFullState().stream().filter(p -> isPiece(pieceColour, pieceNumber, p))
-				.findAny();
-
-		return o.isPresent() ? o.get() : null;
-	}
-
-	private boolean isPiece(int pieceColour, int pieceNumber, Piece p) {
-		return p.getColour() == pieceColour && p.getNumber() == pieceNumber;
+		return false;
 	}
 
 	private boolean isValidPieceNumber(int pieceNumber) {
-		return pieceNumber >= 0 && pieceNumber < getNumBoards() * getRules().getNumberOfPieces();
+		return getRules().isValidPieceNumber(pieceNumber);
 	}
 
 	private boolean isValidPosition(int toPosition) {
@@ -468,7 +724,7 @@ public class ThreeDStandardCheckerGame extends AbstractThreeDStandardCheckerGame
 		assert absolutePosition >= 0;
 
 		int boardIdx = absolutePosition / (getRules().getBoardWidth() * getRules().getBoardHeight());
-		assert isValidY(boardIdx);
+		assert isValidZ(boardIdx);
 
 		return boardIdx;
 	}
@@ -508,6 +764,150 @@ public class ThreeDStandardCheckerGame extends AbstractThreeDStandardCheckerGame
 		return toAbsolutePositions(forBoards);
 	}
 
+	/**
+	 * Writes the state of the game into the specified array. Piece positions are
+	 * absolute.
+	 *
+	 * @param into
+	 *          the array to write to
+	 * @return the number of elements written
+	 * @see #getState()
+	 */
+	@Override
+	public int getState(PieceState[] into) {
+		int idx = 0;
+
+		for (int i = 0; i < getNumBoards(); i++) {
+			List<Piece> pieces = boards.get(i).getFullState();
+
+			for (int j = 0; j < pieces.size(); j++, idx++) {
+				if (into[idx] == null) into[idx] = new PieceState();
+
+				PieceState ps = into[idx];
+				ps.copy(pieces.get(j));
+				ps.setPosition(getAbsolutePosition(ps, i));
+			}
+		}
+
+		return idx;
+	}
+
+	/**
+	 * Returns the packed state of the game. Piece positions are absolute.
+	 *
+	 * @return the packed state
+	 * @see #getState()
+	 */
+	@Override
+	public int[] getPackedState() {
+		int size = 0;
+		for (int i = 0; i < getNumBoards(); i++) {
+			size += boards.get(i).getFullState().size();
+		}
+
+		int[] packed = new int[size];
+
+		getPackedState(packed);
+
+		return packed;
+	}
+
+	/**
+	 * Writes the packed state of the game into the specified array. Piece
+	 * positions are absolute.
+	 *
+	 * @param into
+	 *          the array to write to
+	 * @return the number of elements written
+	 * @see #getState()
+	 */
+	@Override
+	public int getPackedState(int[] into) {
+		int idx = 0;
+
+		for (int i = 0; i < getNumBoards(); i++) {
+			List<Piece> pieces = boards.get(i).getFullState();
+
+			for (int j = 0; j < pieces.size(); j++, idx++) {
+				Piece p = pieces.get(j);
+
+				into[idx] = PieceState.encode(p.getColour(), p.getNumber(), getAbsolutePosition(p, i), p.isKinged());
+			}
+		}
+
+		return idx;
+	}
+
+	/**
+	 * Moves as per {@link #move(int, int, int)}, returning the packed state.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @param toPosition
+	 *          the to position, must be absolute
+	 * @return the packed state
+	 * @throws CheckersStateException
+	 *           the checkers state exception
+	 */
+	@Override
+	public int[] movePacked(int pieceColour, int pieceNumber, int toPosition) throws CheckersStateException {
+		movePiece(pieceColour, pieceNumber, toPosition);
+
+		return getPackedState();
+	}
+
+	/**
+	 * Returns the {@link PackedMove} describing the move of the specified piece
+	 * to the specified absolute position from the current state of the game. The
+	 * move is not validated.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @param pieceNumber
+	 *          the piece number
+	 * @param toPosition
+	 *          the to position, must be absolute
+	 * @return the packed move
+	 */
+	public long toPackedMove(int pieceColour, int pieceNumber, int toPosition) {
+		int boardIdx = isValidPieceNumber(pieceNumber) ? getBoardIndexByNum(pieceNumber) : -1;
+		Piece piece = boardIdx == -1 ? null : getPiece(pieceColour, pieceNumber, boardIdx);
+
+		if (piece == null || piece.isJumped() || !isValidPosition(toPosition)) {
+			return PackedMove.encode(pieceColour, pieceNumber, -1, toPosition, -1, false);
+		}
+
+		int toBoardIdx = getBoardIndex(toPosition);
+		int relativePosition = getRelativePosition(toPosition, toBoardIdx);
+
+		int captured = getCaptured(piece.getPosition(), boardIdx, relativePosition, toBoardIdx);
+
+		return toPackedMove(piece, boardIdx, toPosition, captured);
+	}
+
+	private long toPackedMove(Piece piece, int boardIdx, int toPosition, int captured) {
+		int from = piece.getPosition() + getZFactor(boardIdx);
+		int relativePosition = getRelativePosition(toPosition, getBoardIndex(toPosition));
+		boolean promotion = !piece.isKinged() && getRules().isKingRow(piece.getColour(), relativePosition);
+
+		return PackedMove.encode(piece.getColour(), piece.getNumber(), from, toPosition, captured, promotion);
+	}
+
+	private int getCaptured(int relativeFrom, int boardIdx, int relativeTo, int toBoardIdx) {
+		int dx = getRules().getX(relativeTo) - getRules().getX(relativeFrom);
+		int dy = getRules().getY(relativeTo) - getRules().getY(relativeFrom);
+		int dz = toBoardIdx - boardIdx;
+
+		if (Math.abs(dy) != 2 || !isDiagonal(dx, dy, dz)) return -1;
+
+		int jX = splitDiff(getRules().getX(relativeFrom), getRules().getX(relativeTo));
+		int jY = splitDiff(getRules().getY(relativeFrom), getRules().getY(relativeTo));
+
+		return getAbsolutePosition(jX, jY, boardIdx + dz / 2);
+	}
+
 	private List<PieceState> toAbsolutePositions(Map<Integer, List<PieceState>> forBoards) {
 		List<PieceState> state = new ArrayList<>();
 
@@ -523,7 +923,7 @@ public class ThreeDStandardCheckerGame extends AbstractThreeDStandardCheckerGame
 	}
 
 	private int getAbsolutePosition(PieceState p, int boardIdx) {
-		return p.getPosition() + getZFactor(boardIdx);
+		return p.getPosition() == -1 ? -1 : p.getPosition() + getZFactor(boardIdx);
 	}
 
 	private int getRelativePosition(int absolutePosition, int boardIdx) {
@@ -584,6 +984,33 @@ public class ThreeDStandardCheckerGame extends AbstractThreeDStandardCheckerGame
 		return GAME_NAME;
 	}
 
+	/**
+	 * Checks each board against the boards above and below it as a whole, rather
+	 * than piece by piece.
+	 *
+	 * @param pieceColour
+	 *          the piece colour
+	 * @return true, if successful
+	 * @see CheckerBoard#canMoveAcross(int, CheckerBoard, CheckerBoard)
+	 */
+	@Override
+	protected boolean canMoveAcrossBoards(int pieceColour) {
+		for (int i = 0; i < boards.size(); i++) {
+			CheckerBoard board = boards.get(i).getBoard();
+
+			for (int dz = -1; dz <= 1; dz += 2) {
+				if (!isValidZ(i + dz)) continue;
+
+				CheckerBoard adjacent = boards.get(i + dz).getBoard();
+				CheckerBoard beyond = isValidZ(i + 2 * dz) ? boards.get(i + 2 * dz).getBoard() : null;
+
+				if (board.canMoveAcross(pieceColour, adjacent, beyond)) return true;
+			}
+		}
+
+		return false;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -593,40 +1020,31 @@ public class ThreeDStandardCheckerGame extends AbstractThreeDStandardCheckerGame
 	 * boolean, int)
 	 */
 	protected boolean canMoveAcrossBoards(PieceState piece, int boardIdx, boolean forward, int factor) {
-		int plus = boardIdx + factor;
-		int minus = boardIdx - factor;
-
 		int x = getRules().getX(piece.getPosition());
-		int y = getRules().getY(piece.getPosition()) + (forward ? factor : -factor);
-
-		boolean plusMt = true;
-		boolean minusMt = true;
-
-		boolean plusOOB = false;
-		boolean minusOOB = false;
-
-		if (plus < getNumBoards()) {
-			plusMt = isEmpty(plus, x + factor, y) && isEmpty(plus, x - factor, y);
-		} else {
-			plusOOB = true;
-		}
+		int y = getRules().getY(piece.getPosition());
+		int dy = forward ? 1 : -1;
 
-		if (minus >= 0) {
-			minusMt = isEmpty(minus, x + factor, y) && isEmpty(minus, x - factor, y);
-		} else {
-			minusOOB = true;
+		for (int dz = -1; dz <= 1; dz += 2) {
+			for (int dx = -1; dx <= 1; dx += 2) {
+				if (factor == 1 ? canMoveTo(x + dx, y + dy, boardIdx + dz) : canJumpTo(piece, x, y, boardIdx, dx, dy, dz)) {
+					return true;
+				}
+			}
 		}
 
-		boolean plusMove = plusMt && !plusOOB;
-		boolean minusMove = minusMt && !minusOOB;
+		return false;
+	}
 
-		return plusMove || minusMove;
+	private boolean canMoveTo(int x, int y, int boardIdx) {
+		return isValid(x, y, boardIdx) && isEmptyAt(x, y, boardIdx);
 	}
 
-	private boolean isEmpty(int boardIdx, int x, int y) {
-		StandardCheckerGame scg = boards.get(boardIdx);
+	private boolean canJumpTo(PieceState piece, int x, int y, int boardIdx, int dx, int dy, int dz) {
+		return isValidJump(x + dx, y + dy, x + 2 * dx, y + 2 * dy, boardIdx + dz, boardIdx + 2 * dz, piece.getColour());
+	}
 
-		return scg.getBoard().getBoardPiece(x, y) == null;
+	private boolean isValid(int x, int y, int boardIdx) {
+		return isValidX(x) && isValidY(y) && isValidZ(boardIdx);
 	}
 
 	/*
@@ -641,17 +1059,15 @@ public class ThreeDStandardCheckerGame extends AbstractThreeDStandardCheckerGame
 	}
 
 	private int getBoardIndexByNum(int pieceNumber) {
-		int idx = -1;
-
 		for (int i = 0; i < boards.size(); i++) {
-			List<PieceState> l = boards.get(i).getState();
-			if (l.stream().filter(ps -> ps.getNumber() == pieceNumber).findAny().isPresent()) {
-				idx = i;
-				break;
+			List<Piece> pieces = boards.get(i).getFullState();
+
+			for (int j = 0; j < pieces.size(); j++) {
+				if (pieces.get(j).getNumber() == pieceNumber) return i;
 			}
 		}
 
-		return idx;
+		return -1;
 	}
 
 }
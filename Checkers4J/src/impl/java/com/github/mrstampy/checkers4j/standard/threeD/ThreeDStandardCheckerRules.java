@@ -80,6 +80,20 @@ public class ThreeDStandardCheckerRules extends StandardCheckerRules {
 		return pieceNumberOffset.getAndIncrement();
 	}
 
+	/**
+	 * Returns true if the piece number is valid for any board; piece numbers are
+	 * unique across all boards of a game.
+	 *
+	 * @param pieceNumber
+	 *          the piece number
+	 * @return true, if is valid piece number
+	 * @see #getPieceNumberOffset()
+	 */
+	@Override
+	public boolean isValidPieceNumber(int pieceNumber) {
+		return pieceNumber > 0 && pieceNumber <= numBoards * getValidColours().length * getNumberOfPieces();
+	}
+
 	/**
 	 * Gets the num boards.
 	 *
@@ -99,6 +113,8 @@ public class ThreeDStandardCheckerRules extends StandardCheckerRules {
 		assert numBoards > 1;
 
 		this.numBoards = numBoards;
+
+		createZobristKeys(numBoards);
 	}
 
 }
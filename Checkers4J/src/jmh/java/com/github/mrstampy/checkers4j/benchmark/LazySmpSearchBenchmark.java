@@ -0,0 +1,108 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.benchmark;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.mrstampy.checkers4j.search.LazySmpSearch;
+import com.github.mrstampy.checkers4j.search.SearchResult;
+import com.github.mrstampy.checkers4j.search.TranspositionTable;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerRules;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Time to depth of a {@link LazySmpSearch} from the initial position with an
+ * empty transposition table, by board size and number of threads. The speedup
+ * is the score with one thread divided by the score with more.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LazySmpSearchBenchmark {
+
+	/** The board width and height. */
+	@Param({ "8", "10" })
+	public int size;
+
+	/** The number of threads searching. */
+	@Param({ "1", "2", "4", "8", "16" })
+	public int threads;
+
+	private StandardCheckerGame game;
+	private TranspositionTable table;
+	private LazySmpSearch search;
+	private int depth;
+
+	/**
+	 * Creates the search.
+	 */
+	@Setup
+	public void setup() {
+		game = new StandardCheckerGame(new StandardCheckerRules(size, size));
+		table = new TranspositionTable(22);
+		search = new LazySmpSearch(threads, table);
+		depth = size == 8 ? 13 : 10;
+	}
+
+	/**
+	 * Empties the table before each search.
+	 */
+	@Setup(Level.Invocation)
+	public void clear() {
+		table.clear();
+	}
+
+	/**
+	 * Search to depth.
+	 *
+	 * @return the search result
+	 */
+	@Benchmark
+	public SearchResult searchToDepth() {
+		return search.search(game, WHITE_NUM, depth);
+	}
+
+	/**
+	 * Stops the helper threads.
+	 */
+	@TearDown
+	public void shutdown() {
+		search.shutdown();
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.benchmark;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.mrstampy.checkers4j.search.MctsResult;
+import com.github.mrstampy.checkers4j.search.MctsSearch;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerRules;
+import com.github.mrstampy.checkers4j.standard.threeD.ThreeDStandardCheckerGame;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Time taken by an {@link MctsSearch} on the common fork join pool to complete
+ * {@link #ITERATIONS} iterations from the initial position.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MctsSearchBenchmark {
+
+	/** The iterations per search. */
+	public static final int ITERATIONS = 10000;
+
+	/** The board width and height. */
+	@Param({ "8", "10" })
+	public int size;
+
+	/** True for heuristic playouts. */
+	@Param({ "false", "true" })
+	public boolean heuristic;
+
+	private MctsSearch search;
+	private StandardCheckerGame game;
+	private ThreeDStandardCheckerGame threeD;
+
+	/**
+	 * Creates the search.
+	 */
+	@Setup
+	public void setup() {
+		search = new MctsSearch();
+		search.setHeuristicPlayouts(heuristic);
+
+		game = new StandardCheckerGame(new StandardCheckerRules(size, size));
+		threeD = new ThreeDStandardCheckerGame(3, size, size);
+	}
+
+	/**
+	 * Search the standard game.
+	 *
+	 * @return the MCTS result
+	 */
+	@Benchmark
+	public MctsResult search() {
+		return search.search(game, WHITE_NUM, ITERATIONS);
+	}
+
+	/**
+	 * Search the 3D game.
+	 *
+	 * @return the MCTS result
+	 */
+	@Benchmark
+	public MctsResult searchThreeD() {
+		return search.search(threeD, WHITE_NUM, ITERATIONS);
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.benchmark;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.mrstampy.checkers4j.playout.RandomPlayout;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerRules;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Benchmarks full games of random legal moves on square boards of the
+ * specified size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomGameBenchmark {
+
+	/** The board width and height. */
+	@Param({ "8", "10" })
+	public int size;
+
+	private StandardCheckerGame initial;
+	private StandardCheckerGame game;
+	private RandomPlayout<StandardCheckerRules> playout;
+	private long[] moves;
+	private SplittableRandom random;
+
+	/**
+	 * Setup.
+	 */
+	@Setup
+	public void setup() {
+		initial = new StandardCheckerGame(new StandardCheckerRules(size, size));
+		game = initial.copy();
+		playout = new RandomPlayout<>(initial, WHITE_NUM);
+		moves = new long[game.getMaxMoves()];
+		random = new SplittableRandom(42);
+	}
+
+	/**
+	 * Plays a random game with the {@link RandomPlayout}.
+	 *
+	 * @return the number of moves played
+	 */
+	@Benchmark
+	public int randomGame() {
+		game.copyFrom(initial);
+
+		return playout.playout(game, random, moves);
+	}
+}
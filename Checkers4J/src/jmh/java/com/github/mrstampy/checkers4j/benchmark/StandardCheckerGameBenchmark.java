@@ -0,0 +1,208 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.benchmark;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.mrstampy.checkers4j.Piece;
+import com.github.mrstampy.checkers4j.PieceState;
+import com.github.mrstampy.checkers4j.api.GameDiffWrapper;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+import com.github.mrstampy.checkers4j.ex.CheckersStateException;
+import com.github.mrstampy.checkers4j.playout.RandomPlayout;
+import com.github.mrstampy.checkers4j.standard.RecordableStandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerRules;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Benchmarks of the individual operations of a {@link StandardCheckerGame}.
+ * Moves replay a random game recorded on setup, restarting it from the initial
+ * position when it ends. Read only operations use a position from the middle of
+ * that game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StandardCheckerGameBenchmark {
+
+	/** The board width and height. */
+	@Param({ "8", "10" })
+	public int size;
+
+	private StandardCheckerGame initial;
+	private StandardCheckerGame game;
+	private GameDiffWrapper wrapper;
+
+	private long[] played;
+	private int plies;
+	private int idx;
+
+	private StandardCheckerGame position;
+	private StandardCheckerGame stateGame;
+	private List<Piece> state;
+	private PieceState[] into;
+
+	/**
+	 * Records the random game to replay.
+	 *
+	 * @throws CheckersStateException
+	 *           the checkers state exception
+	 */
+	@Setup
+	public void setup() throws CheckersStateException {
+		initial = new StandardCheckerGame(new StandardCheckerRules(size, size));
+
+		RecordableStandardCheckerGame recorded = new RecordableStandardCheckerGame(initial.getRules());
+		new RandomPlayout<>(recorded, WHITE_NUM).playout(recorded, new SplittableRandom(42),
+				new long[recorded.getMaxMoves()]);
+
+		played = recorded.getPackedMoves();
+		plies = played.length;
+
+		position = initial.copy();
+		for (int i = 0; i < plies / 2; i++) {
+			play(position, played[i]);
+		}
+
+		stateGame = position.copy();
+		state = position.copy().getFullState();
+		into = new PieceState[state.size()];
+
+		game = initial.copy();
+		wrapper = new GameDiffWrapper();
+		reset();
+	}
+
+	/**
+	 * Move, returning the full state.
+	 *
+	 * @return the list
+	 * @throws CheckersStateException
+	 *           the checkers state exception
+	 */
+	@Benchmark
+	public List<PieceState> move() throws CheckersStateException {
+		long move = nextMove();
+
+		return game.move(PackedMove.getColour(move), PackedMove.getNumber(move), PackedMove.getToPosition(move));
+	}
+
+	/**
+	 * Move without generating the state.
+	 *
+	 * @throws CheckersStateException
+	 *           the checkers state exception
+	 */
+	@Benchmark
+	public void movePiece() throws CheckersStateException {
+		play(game, nextMove());
+	}
+
+	/**
+	 * Move through a {@link GameDiffWrapper} returning the diff.
+	 *
+	 * @return the list
+	 * @throws CheckersStateException
+	 *           the checkers state exception
+	 */
+	@Benchmark
+	public List<PieceState> diffMove() throws CheckersStateException {
+		long move = nextMove();
+
+		return wrapper.move(PackedMove.getColour(move), PackedMove.getNumber(move), PackedMove.getToPosition(move));
+	}
+
+	/**
+	 * Gets the state.
+	 *
+	 * @return the state
+	 */
+	@Benchmark
+	public List<PieceState> getState() {
+		return position.getState();
+	}
+
+	/**
+	 * Gets the state into a reused array.
+	 *
+	 * @return the number of pieces
+	 */
+	@Benchmark
+	public int getStateInto() {
+		return position.getState(into);
+	}
+
+	/**
+	 * Can move.
+	 *
+	 * @param bh
+	 *          the bh
+	 */
+	@Benchmark
+	public void canMove(Blackhole bh) {
+		bh.consume(position.canMove(WHITE_NUM));
+		bh.consume(position.canMove(BLACK_NUM));
+	}
+
+	/**
+	 * Sets the state.
+	 */
+	@Benchmark
+	public void setState() {
+		stateGame.setState(state);
+	}
+
+	private long nextMove() {
+		if (idx == plies) reset();
+
+		return played[idx++];
+	}
+
+	private void reset() {
+		game.copyFrom(initial);
+		wrapper.setCheckerGame(game);
+		idx = 0;
+	}
+
+	private static void play(StandardCheckerGame game, long move) throws CheckersStateException {
+		game.movePiece(PackedMove.getColour(move), PackedMove.getNumber(move), PackedMove.getToPosition(move));
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class PieceStateTest.
+ */
+public class PieceStateTest {
+
+	/**
+	 * Test encoding and decoding at the limits of each packed field.
+	 */
+	@Test
+	public void testEncode() {
+		int packed = PieceState.encode(BLACK_NUM, 4095, -1, true);
+		assertEquals(BLACK_NUM, PieceState.decodeColour(packed));
+		assertEquals(4095, PieceState.decodeNumber(packed));
+		assertEquals(-1, PieceState.decodePosition(packed));
+		assertTrue(PieceState.decodeKinged(packed));
+
+		packed = PieceState.encode(7, 0, PieceState.MAX_PACKED_POSITION, false);
+		assertEquals(7, PieceState.decodeColour(packed));
+		assertEquals(0, PieceState.decodeNumber(packed));
+		assertEquals(PieceState.MAX_PACKED_POSITION, PieceState.decodePosition(packed));
+		assertFalse(PieceState.decodeKinged(packed));
+
+		packed = PieceState.encode(PieceState.MAX_PACKED_COLOUR, PieceState.MAX_PACKED_NUMBER, 0, false);
+		assertEquals(PieceState.MAX_PACKED_COLOUR, PieceState.decodeColour(packed));
+		assertEquals(PieceState.MAX_PACKED_NUMBER, PieceState.decodeNumber(packed));
+		assertEquals(0, PieceState.decodePosition(packed));
+	}
+
+	/**
+	 * Test a piece state decoded from the encoding of another is equal to it.
+	 */
+	@Test
+	public void testDecode() {
+		PieceState ps = new PieceState();
+		ps.setColour(BLACK_NUM);
+		ps.setNumber(12);
+		ps.setPosition(40);
+		ps.setKinged(true);
+
+		PieceState decoded = new PieceState();
+		decoded.decode(ps.encode());
+
+		assertEquals(ps, decoded);
+		assertEquals(40, decoded.getPosition());
+		assertTrue(decoded.isKinged());
+		assertEquals(ps.encode(), decoded.encode());
+	}
+}
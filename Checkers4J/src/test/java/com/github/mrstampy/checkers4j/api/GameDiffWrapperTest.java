@@ -0,0 +1,79 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.api;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.PieceState;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class GameDiffWrapperTest.
+ */
+public class GameDiffWrapperTest {
+
+	/**
+	 * Test only the pieces changed by each move are returned, or all pieces if
+	 * diffs are not returned.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testMove() throws Exception {
+		StandardCheckerGame game = new StandardCheckerGame();
+		List<PieceState> initial = game.getState();
+
+		GameDiffWrapper wrapper = new GameDiffWrapper();
+		wrapper.setCheckerGame(game);
+		assertEquals(initial, wrapper.getCurrentState());
+
+		List<PieceState> diff = wrapper.move(WHITE_NUM, 10, 26);
+		assertEquals(1, diff.size());
+		assertNotNull(getPieceState(diff, 10, 26));
+
+		assertEquals(1, wrapper.move(BLACK_NUM, 1, 33).size());
+		assertEquals(1, wrapper.move(WHITE_NUM, 9, 24).size());
+
+		diff = wrapper.move(BLACK_NUM, 1, 19);
+		assertEquals(2, diff.size());
+		assertNotNull(getPieceState(diff, 1, 19));
+		assertNotNull(getPieceState(diff, 10, -1));
+		assertEquals(game.getState(), wrapper.getCurrentState());
+
+		wrapper.setReturnDiff(false);
+		assertEquals(initial.size(), wrapper.move(WHITE_NUM, 9, 33).size());
+	}
+
+	private PieceState getPieceState(List<PieceState> state, int number, int position) {
+		for (PieceState ps : state) {
+			if (ps.getNumber() == number && ps.getPosition() == position) return ps;
+		}
+
+		return null;
+	}
+}
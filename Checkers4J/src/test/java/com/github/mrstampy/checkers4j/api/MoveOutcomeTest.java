@@ -0,0 +1,105 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.api;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.ex.CheckersStateException;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class MoveOutcomeTest.
+ */
+public class MoveOutcomeTest {
+
+	/**
+	 * Test move outcome.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testMoveOutcome() throws Exception {
+		StandardCheckerGame game = new StandardCheckerGame();
+		MoveOutcome outcome = new MoveOutcome();
+
+		assertTrue(outcome == game.move(WHITE_NUM, 10, 26, outcome));
+		assertEquals(26, outcome.getToPosition());
+		assertFalse(outcome.isCapture());
+		assertFalse(outcome.isKinged());
+		assertTrue(outcome.isTurnEnded());
+		assertFalse(outcome.isFinished());
+		assertEquals(-1, outcome.getWinningColour());
+
+		game.move(BLACK_NUM, 1, 33, outcome);
+		game.move(WHITE_NUM, 9, 24, outcome);
+
+		game.move(BLACK_NUM, 1, 19, outcome);
+		assertTrue(outcome.isCapture());
+		assertEquals(WHITE_NUM, outcome.getCapturedColour());
+		assertEquals(10, outcome.getCapturedNumber());
+		assertEquals(26, outcome.getCapturedPosition());
+		assertTrue(outcome.isTurnEnded());
+
+		assertEquals(11, game.getPiecesInPlay(WHITE_NUM));
+		assertEquals(12, game.getPiecesInPlay(BLACK_NUM));
+		assertEquals(11, game.copy().getPiecesInPlay(WHITE_NUM));
+
+		game.move(WHITE_NUM, 9, 33, outcome);
+		assertFalse(outcome.isCapture());
+
+		try {
+			game.move(BLACK_NUM, 2, 19, outcome);
+			fail("Illegal move");
+		} catch (CheckersStateException expected) {
+		}
+	}
+
+	/**
+	 * Test reset clears the outcome of the previous move.
+	 */
+	@Test
+	public void testReset() {
+		MoveOutcome outcome = new MoveOutcome();
+		outcome.setCaptured(WHITE_NUM, 10, 26);
+		outcome.setKinged(true);
+		outcome.setTurnEnded(true);
+		outcome.setFinished(true);
+		outcome.setWinningColour(BLACK_NUM);
+
+		outcome.reset(BLACK_NUM, 1, 19);
+
+		assertEquals(BLACK_NUM, outcome.getColour());
+		assertEquals(1, outcome.getNumber());
+		assertEquals(19, outcome.getToPosition());
+		assertFalse(outcome.isCapture());
+		assertFalse(outcome.isKinged());
+		assertFalse(outcome.isTurnEnded());
+		assertFalse(outcome.isFinished());
+		assertEquals(-1, outcome.getWinningColour());
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.api.listener;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class CheckerGameListenersTest.
+ */
+public class CheckerGameListenersTest {
+
+	/**
+	 * Test listener.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testListener() throws Exception {
+		StandardCheckerGame game = new StandardCheckerGame();
+		List<String> events = new ArrayList<>();
+
+		CheckerGameListener listener = new CheckerGameListener() {
+
+			@Override
+			public void moved(long gameId, int colour, int number, int fromPosition, int toPosition) {
+				events.add("moved " + colour + ":" + number + " " + fromPosition + "-" + toPosition);
+			}
+
+			@Override
+			public void captured(long gameId, int colour, int number, int position) {
+				events.add("captured " + colour + ":" + number + " " + position);
+			}
+
+			@Override
+			public void turnEnded(long gameId, int colour) {
+				events.add("turnEnded " + colour);
+			}
+
+			@Override
+			public void started(long gameId) {
+				events.add("started");
+			}
+
+			@Override
+			public void finished(long gameId, int winningColour, boolean draw) {
+				events.add("finished " + winningColour + " " + draw);
+			}
+		};
+
+		game.addListener(listener);
+
+		game.move(WHITE_NUM, 10, 26);
+		game.move(BLACK_NUM, 1, 33);
+		game.move(WHITE_NUM, 9, 24);
+		game.move(BLACK_NUM, 1, 19);
+		game.endTurn(BLACK_NUM);
+		game.draw();
+
+		//@formatter:off
+		assertEquals(Arrays.asList(
+				"started",
+				"moved 0:10 19-26", "turnEnded 0",
+				"moved 1:1 40-33", "turnEnded 1",
+				"moved 0:9 17-24", "turnEnded 0",
+				"captured 0:10 26", "moved 1:1 33-19", "turnEnded 1",
+				"finished -1 true"), events);
+		//@formatter:on
+
+		game.removeListener(listener);
+		events.clear();
+
+		game.draw();
+		assertTrue(events.isEmpty());
+	}
+
+	/**
+	 * Test listeners are notified until removed.
+	 */
+	@Test
+	public void testAddRemove() {
+		List<Long> started = new ArrayList<>();
+		CheckerGameListener listener = new CheckerGameListener() {
+
+			@Override
+			public void started(long gameId) {
+				started.add(gameId);
+			}
+		};
+
+		CheckerGameListeners listeners = new CheckerGameListeners();
+		assertFalse(listeners.hasListeners());
+
+		listeners.addListener(listener);
+		assertTrue(listeners.hasListeners());
+
+		listeners.started(1);
+		listeners.finished(1, WHITE_NUM, false);
+
+		listeners.removeListener(listener);
+		assertFalse(listeners.hasListeners());
+
+		listeners.started(2);
+
+		assertEquals(Arrays.asList(1L), started);
+	}
+}
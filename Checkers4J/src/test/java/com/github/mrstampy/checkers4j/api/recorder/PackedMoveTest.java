@@ -0,0 +1,79 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.api.recorder;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.PieceState;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class PackedMoveTest.
+ */
+public class PackedMoveTest {
+
+	/**
+	 * Test encoding and decoding at the limits of each packed field.
+	 */
+	@Test
+	public void testEncode() {
+		long move = PackedMove.encode(PieceState.MAX_PACKED_COLOUR, PieceState.MAX_PACKED_NUMBER, -1,
+				PieceState.MAX_PACKED_POSITION, PieceState.MAX_PACKED_POSITION, true);
+		assertEquals(PieceState.MAX_PACKED_COLOUR, PackedMove.getColour(move));
+		assertEquals(PieceState.MAX_PACKED_NUMBER, PackedMove.getNumber(move));
+		assertEquals(-1, PackedMove.getFromPosition(move));
+		assertEquals(PieceState.MAX_PACKED_POSITION, PackedMove.getToPosition(move));
+		assertEquals(PieceState.MAX_PACKED_POSITION, PackedMove.getCapturedPosition(move));
+		assertTrue(PackedMove.isCapture(move));
+		assertTrue(PackedMove.isPromotion(move));
+
+		move = PackedMove.encode(BLACK_NUM, 1, 40, 33, -1, false);
+		assertEquals(BLACK_NUM, PackedMove.getColour(move));
+		assertEquals(1, PackedMove.getNumber(move));
+		assertEquals(40, PackedMove.getFromPosition(move));
+		assertEquals(33, PackedMove.getToPosition(move));
+		assertEquals(-1, PackedMove.getCapturedPosition(move));
+		assertFalse(PackedMove.isCapture(move));
+		assertFalse(PackedMove.isPromotion(move));
+	}
+
+	/**
+	 * Test no encoded move, even that with every field at its minimum, equals
+	 * {@link PackedMove#NO_MOVE}.
+	 */
+	@Test
+	public void testNoMove() {
+		assertTrue(PackedMove.encode(WHITE_NUM, 0, -1, 0, -1, false) != PackedMove.NO_MOVE);
+	}
+
+	/**
+	 * Test to string.
+	 */
+	@Test
+	public void testToString() {
+		assertEquals("1-1: 40-33", PackedMove.toString(PackedMove.encode(BLACK_NUM, 1, 40, 33, -1, false)));
+		assertEquals("0-9: 17x35K", PackedMove.toString(PackedMove.encode(WHITE_NUM, 9, 17, 35, 26, true)));
+	}
+}
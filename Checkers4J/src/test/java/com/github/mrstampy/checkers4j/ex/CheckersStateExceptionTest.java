@@ -0,0 +1,89 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.ex;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.ex.CheckersStateException.ErrorState;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class CheckersStateExceptionTest.
+ */
+public class CheckersStateExceptionTest {
+
+	/**
+	 * Test stackless exceptions.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testStacklessExceptions() throws Exception {
+		boolean stackless = CheckersStateException.isStackless();
+		try {
+			CheckersStateException.setStackless(true);
+			new StandardCheckerGame().movePiece(WHITE_NUM, 9, 33);
+			fail("Illegal move");
+		} catch (CheckersStateException e) {
+			assertEquals(0, e.getStackTrace().length);
+			assertEquals(ErrorState.ILLEGAL_MOVE, e.getErrorState());
+			assertEquals(9, e.getNumber());
+			assertEquals("ILLEGAL_MOVE: cannot move piece 9 of colour " + WHITE_NUM + " to 33", e.getMessage());
+		} finally {
+			CheckersStateException.setStackless(stackless);
+		}
+	}
+
+	/**
+	 * Test a stack trace is captured unless stackless.
+	 */
+	@Test
+	public void testStackTrace() {
+		boolean stackless = CheckersStateException.isStackless();
+		try {
+			CheckersStateException.setStackless(false);
+			assertTrue(new CheckersStateException(ErrorState.ILLEGAL_STATE, "test").getStackTrace().length > 0);
+		} finally {
+			CheckersStateException.setStackless(stackless);
+		}
+	}
+
+	/**
+	 * Test each error state's code is distinct from {@link CheckerGame#MOVE_OK}
+	 * and maps back to the error state.
+	 */
+	@Test
+	public void testErrorStateCodes() {
+		assertNull(ErrorState.fromCode(CheckerGame.MOVE_OK));
+
+		for (ErrorState es : ErrorState.values()) {
+			assertTrue(es.getCode() != CheckerGame.MOVE_OK);
+			assertEquals(es, ErrorState.fromCode(es.getCode()));
+		}
+	}
+}
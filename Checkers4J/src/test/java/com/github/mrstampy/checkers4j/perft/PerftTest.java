@@ -0,0 +1,109 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.perft;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.PieceState;
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.api.CheckerRules;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerRules;
+import com.github.mrstampy.checkers4j.standard.threeD.ThreeDStandardCheckerGame;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class PerftTest.
+ */
+public class PerftTest {
+
+	/**
+	 * Test perft from the standard starting position.
+	 */
+	@Test
+	public void testStandardPerft() {
+		StandardCheckerGame game = new StandardCheckerGame();
+		List<PieceState> before = game.getState();
+
+		Perft perft = new Perft();
+
+		assertEquals(1, perft.perft(game, WHITE_NUM, 0));
+		assertEquals(7, perft.perft(game, WHITE_NUM, 1));
+		assertEquals(49, perft.perft(game, WHITE_NUM, 2));
+		assertEquals(7, perft.perft(game, BLACK_NUM, 1));
+
+		assertEquals(before, game.getState());
+	}
+
+	/**
+	 * Test perft counts to depth 7 from the standard starting positions. As
+	 * captures are optional in these rules and each jump of a multi jump is a
+	 * move of its own, the counts from the third move on are greater than the
+	 * published counts for English draughts.
+	 */
+	@Test
+	public void testReferenceCounts() {
+		Perft perft = new Perft(20);
+
+		long[] expected = { 1, 7, 49, 379, 2872, 23582, 189143, 1574387 };
+		for (int depth = 0; depth < expected.length; depth++) {
+			assertEquals(expected[depth], perft.perft(new StandardCheckerGame(), WHITE_NUM, depth));
+		}
+
+		StandardCheckerGame tenByTen = new StandardCheckerGame(new StandardCheckerRules(10, 10));
+
+		expected = new long[] { 1, 9, 81, 793, 7654, 79010, 801609 };
+		for (int depth = 0; depth < expected.length; depth++) {
+			assertEquals(expected[depth], perft.perft(tenByTen, WHITE_NUM, depth));
+		}
+	}
+
+	/**
+	 * Test divide, parallel and hashed perft agree.
+	 */
+	@Test
+	public void testVariantsAgree() {
+		assertVariantsAgree(new StandardCheckerGame(), 6);
+		assertVariantsAgree(new StandardCheckerGame(new StandardCheckerRules(10, 10)), 5);
+		assertVariantsAgree(new ThreeDStandardCheckerGame(), 3);
+		assertVariantsAgree(new ThreeDStandardCheckerGame(4), 2);
+	}
+
+	private <RULES extends CheckerRules> void assertVariantsAgree(CheckerGame<RULES> game, int depth) {
+		long expected = new Perft().perft(game, WHITE_NUM, depth);
+
+		long sum = 0;
+		Map<Long, Long> divide = new Perft().divide(game, WHITE_NUM, depth);
+		for (long nodes : divide.values()) {
+			sum += nodes;
+		}
+
+		assertEquals(expected, sum);
+		assertEquals(divide, new Perft().parallelDivide(game, WHITE_NUM, depth));
+		assertEquals(expected, new Perft(16).perft(game, WHITE_NUM, depth));
+		assertEquals(expected, new Perft(16).parallelPerft(game, WHITE_NUM, depth));
+	}
+}
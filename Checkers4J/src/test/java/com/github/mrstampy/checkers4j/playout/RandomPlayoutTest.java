@@ -0,0 +1,98 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.playout;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.api.CheckerGame.GameState;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerRules;
+import com.github.mrstampy.checkers4j.standard.threeD.ThreeDStandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.threeD.ThreeDStandardCheckerRules;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class RandomPlayoutTest.
+ */
+public class RandomPlayoutTest {
+
+	/**
+	 * Test playouts.
+	 */
+	@Test
+	public void testPlayouts() {
+		StandardCheckerGame game = new StandardCheckerGame();
+
+		RandomPlayout<StandardCheckerRules> playout = new RandomPlayout<>(game, BLACK_NUM);
+
+		PlayoutStats stats = playout.play(200, 42);
+		assertStats(stats, 200);
+		assertTrue(stats.getWins(WHITE_NUM) > 0);
+		assertTrue(stats.getWins(BLACK_NUM) > 0);
+
+		assertEquals(GameState.INITIALIZED, game.getGameState());
+	}
+
+	/**
+	 * Test parallel playouts are reproducible regardless of pool size.
+	 */
+	@Test
+	public void testParallelPlayouts() {
+		RandomPlayout<StandardCheckerRules> playout = new RandomPlayout<>(new StandardCheckerGame(), WHITE_NUM);
+
+		PlayoutStats stats = playout.parallelPlay(500, 42);
+		assertStats(stats, 500);
+
+		ForkJoinPool pool = new ForkJoinPool(1);
+		try {
+			PlayoutStats single = playout.parallelPlay(500, 42, pool);
+			assertStats(single, 500);
+			assertEquals(stats.getPlies(), single.getPlies());
+			assertEquals(stats.getWins(WHITE_NUM), single.getWins(WHITE_NUM));
+			assertEquals(stats.getUnfinished(), single.getUnfinished());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Test three D playouts.
+	 */
+	@Test
+	public void testThreeDPlayouts() {
+		RandomPlayout<ThreeDStandardCheckerRules> playout = new RandomPlayout<>(new ThreeDStandardCheckerGame(),
+				WHITE_NUM);
+
+		assertStats(playout.parallelPlay(20, 42), 20);
+	}
+
+	private void assertStats(PlayoutStats stats, int games) {
+		assertEquals(games, stats.getGames());
+		assertEquals(games, stats.getWins(WHITE_NUM) + stats.getWins(BLACK_NUM) + stats.getUnfinished());
+		assertTrue(stats.getPlies() > 0);
+		assertTrue(stats.getGamesPerSecond() > 0);
+	}
+}
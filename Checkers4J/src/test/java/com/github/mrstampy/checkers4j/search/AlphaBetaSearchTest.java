@@ -0,0 +1,169 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.PieceState;
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+import com.github.mrstampy.checkers4j.standard.CheckerBoard;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerRules;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class AlphaBetaSearchTest.
+ */
+public class AlphaBetaSearchTest {
+
+	/**
+	 * Test a search from the start returns a playable principal variation and
+	 * leaves the game untouched.
+	 */
+	@Test
+	public void testSearch() {
+		assertSearch(new StandardCheckerGame(), 7);
+		assertSearch(new StandardCheckerGame(new StandardCheckerRules(10, 10)), 5);
+	}
+
+	private void assertSearch(StandardCheckerGame game, int depth) {
+		List<PieceState> before = game.getState();
+
+		SearchResult result = new AlphaBetaSearch(new TranspositionTable(16)).search(game, WHITE_NUM, depth);
+
+		assertEquals(before, game.getState());
+		assertEquals(depth, result.getDepth());
+		assertTrue(result.getNodes() > 0);
+		assertTrue(isGenerated(game, WHITE_NUM, result.getBestMove()));
+
+		long[] pv = result.getPrincipalVariation();
+		assertEquals(result.getBestMove(), pv[0]);
+
+		StandardCheckerGame copy = game.copy();
+		for (long move : pv) {
+			assertEquals(CheckerGame.MOVE_OK, copy.makeMove(move));
+		}
+	}
+
+	/**
+	 * Test a winning capture is found and scored as a win.
+	 */
+	@Test
+	public void testWin() {
+		StandardCheckerGame game = SearchPositions.winningCapture();
+
+		SearchResult result = new AlphaBetaSearch(new TranspositionTable(10)).search(game, WHITE_NUM, 4);
+
+		assertEquals(42, PackedMove.getToPosition(result.getBestMove()));
+		assertEquals(AlphaBetaSearch.WIN - 1, result.getScore());
+		assertTrue(AlphaBetaSearch.isWinScore(result.getScore()));
+		assertEquals(1, result.getDepth());
+
+		result = new AlphaBetaSearch(new TranspositionTable(10)).search(game, BLACK_NUM, 4);
+		assertTrue(result.getScore() < 0);
+	}
+
+	/**
+	 * Test the time limit stops the search.
+	 */
+	@Test
+	public void testTimeLimit() {
+		StandardCheckerGame game = new StandardCheckerGame();
+
+		long start = System.currentTimeMillis();
+		SearchResult result = new AlphaBetaSearch(new TranspositionTable(16)).search(game, WHITE_NUM,
+				AlphaBetaSearch.MAX_PLY, 200);
+
+		assertTrue(System.currentTimeMillis() - start < 5000);
+		assertTrue(result.getDepth() < AlphaBetaSearch.MAX_PLY);
+		assertTrue(isGenerated(game, WHITE_NUM, result.getBestMove()));
+	}
+
+	/**
+	 * Test the bitboard evaluation equals the piece by piece evaluation of the
+	 * same positions, and that of the opponent is its negation.
+	 */
+	@Test
+	public void testEvaluate() {
+		AlphaBetaSearch search = new AlphaBetaSearch(new TranspositionTable(10));
+		Random rand = new Random(System.nanoTime());
+
+		for (int size = 8; size <= 12; size += 2) {
+			for (int i = 0; i < 10; i++) {
+				StandardCheckerRules rules = new StandardCheckerRules(size, size);
+
+				assertEvaluate(search, new StandardCheckerGame(rules), new GridCheckerGame(rules), rand);
+			}
+		}
+	}
+
+	private void assertEvaluate(AlphaBetaSearch search, StandardCheckerGame bits, StandardCheckerGame grid,
+			Random rand) {
+		long[] moves = new long[bits.getMaxMoves()];
+
+		int colour = WHITE_NUM;
+		for (int i = 0; i < 300; i++) {
+			int score = search.evaluate(bits, colour);
+			assertEquals(score, search.evaluate(grid, colour));
+			assertEquals(-score, search.evaluate(bits, colour == WHITE_NUM ? BLACK_NUM : WHITE_NUM));
+
+			int count = bits.generateMoves(colour, moves);
+			if (count == 0) break;
+
+			long move = moves[rand.nextInt(count)];
+			bits.makeGeneratedMove(move);
+			grid.makeGeneratedMove(move);
+
+			colour = bits.hasTurn() >= 0 ? bits.hasTurn() : bits.getNextPlayer();
+		}
+	}
+
+	private boolean isGenerated(StandardCheckerGame game, int colour, long move) {
+		long[] moves = new long[game.getMaxMoves()];
+		int count = game.generateMoves(colour, moves);
+
+		for (int i = 0; i < count; i++) {
+			if (moves[i] == move) return true;
+		}
+
+		return false;
+	}
+
+	private static class GridCheckerGame extends StandardCheckerGame {
+		private static final long serialVersionUID = 1L;
+
+		public GridCheckerGame(StandardCheckerRules checkerRules) {
+			super(checkerRules);
+		}
+
+		@Override
+		protected CheckerBoard createBoard(StandardCheckerRules rules) {
+			return new CheckerBoard(rules.getBoardWidth(), rules.getBoardHeight());
+		}
+	}
+}
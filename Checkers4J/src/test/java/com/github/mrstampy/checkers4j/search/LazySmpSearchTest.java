@@ -0,0 +1,134 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.PieceState;
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerRules;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class LazySmpSearchTest.
+ */
+public class LazySmpSearchTest {
+
+	/**
+	 * Test a parallel search returns a playable principal variation at least as
+	 * deep as requested and leaves the game untouched.
+	 */
+	@Test
+	public void testSearch() {
+		assertSearch(new StandardCheckerGame(), 7);
+		assertSearch(new StandardCheckerGame(new StandardCheckerRules(10, 10)), 5);
+	}
+
+	private void assertSearch(StandardCheckerGame game, int depth) {
+		List<PieceState> before = game.getState();
+
+		LazySmpSearch search = new LazySmpSearch(4, new TranspositionTable(16));
+		SearchResult result;
+		try {
+			result = search.search(game, WHITE_NUM, depth);
+		} finally {
+			search.shutdown();
+		}
+
+		assertEquals(before, game.getState());
+		assertTrue(result.getDepth() >= depth);
+		assertTrue(result.getNodes() > 0);
+
+		StandardCheckerGame copy = game.copy();
+		for (long move : result.getPrincipalVariation()) {
+			assertEquals(CheckerGame.MOVE_OK, copy.makeMove(move));
+		}
+	}
+
+	/**
+	 * Test the speedup report compares searches to the same depth.
+	 */
+	@Test
+	public void testSpeedup() {
+		LazySmpSearch search = new LazySmpSearch(2, new TranspositionTable(16));
+		SpeedupReport report;
+		try {
+			report = search.measureSpeedup(new StandardCheckerGame(), WHITE_NUM, 6);
+		} finally {
+			search.shutdown();
+		}
+
+		assertEquals(2, report.getThreads());
+		assertEquals(6, report.getSingle().getDepth());
+		assertTrue(report.getParallel().getDepth() >= 6);
+		assertTrue(report.getSpeedup() > 0);
+		assertTrue(report.getNodesPerSecondScaling() > 0);
+	}
+
+	/**
+	 * Test the time limit stops all threads.
+	 */
+	@Test
+	public void testTimeLimit() {
+		LazySmpSearch search = new LazySmpSearch(3, new TranspositionTable(16));
+		try {
+			long start = System.currentTimeMillis();
+			SearchResult result = search.search(new StandardCheckerGame(), WHITE_NUM, AlphaBetaSearch.MAX_PLY, 200);
+
+			assertTrue(System.currentTimeMillis() - start < 5000);
+			assertTrue(result.getDepth() < AlphaBetaSearch.MAX_PLY);
+			assertTrue(result.getBestMove() != 0);
+		} finally {
+			search.shutdown();
+		}
+	}
+
+	/**
+	 * Test the helper threads are reused across searches, and a search allowed
+	 * too little time to complete its iterations still reports a playable best
+	 * move.
+	 */
+	@Test
+	public void testRepeatedSearch() {
+		LazySmpSearch search = new LazySmpSearch(3, new TranspositionTable(16));
+		try {
+			StandardCheckerGame game = new StandardCheckerGame();
+
+			for (int i = 0; i < 5; i++) {
+				SearchResult result = search.search(game, WHITE_NUM, 4);
+
+				assertTrue(result.getDepth() >= 4);
+				assertEquals(CheckerGame.MOVE_OK, game.copy().makeMove(result.getBestMove()));
+			}
+
+			SearchResult result = search.search(game, WHITE_NUM, AlphaBetaSearch.MAX_PLY, 1);
+			assertTrue(result.getDepth() < AlphaBetaSearch.MAX_PLY);
+			assertEquals(CheckerGame.MOVE_OK, game.copy().makeMove(result.getBestMove()));
+		} finally {
+			search.shutdown();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.PieceState;
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.api.CheckerRules;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerRules;
+import com.github.mrstampy.checkers4j.standard.threeD.ThreeDStandardCheckerGame;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class MctsSearchTest.
+ */
+public class MctsSearchTest {
+
+	private static ForkJoinPool pool;
+
+	/**
+	 * Creates the pool shared by the tests.
+	 */
+	@BeforeClass
+	public static void beforeClass() {
+		pool = new ForkJoinPool(4);
+	}
+
+	/**
+	 * Shuts the pool down.
+	 */
+	@AfterClass
+	public static void afterClass() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Test every root move is reported and the visits add up to the iterations.
+	 */
+	@Test
+	public void testSearch() {
+		MctsSearch search = new MctsSearch(1 << 16, pool);
+
+		assertSearch(search, new StandardCheckerGame(), 2000);
+		assertSearch(search, new StandardCheckerGame(new StandardCheckerRules(10, 10)), 1000);
+
+		search.setHeuristicPlayouts(true);
+		assertSearch(search, new StandardCheckerGame(), 2000);
+	}
+
+	/**
+	 * Test a search of the 3D game.
+	 */
+	@Test
+	public void testThreeD() {
+		assertSearch(new MctsSearch(1 << 16, pool), new ThreeDStandardCheckerGame(), 200);
+	}
+
+	/**
+	 * Test the iterations continue once the tree is full.
+	 */
+	@Test
+	public void testFullTree() {
+		MctsSearch search = new MctsSearch(100, pool);
+
+		MctsResult result = assertSearch(search, new StandardCheckerGame(), 500);
+		assertTrue(result.getNodes() <= 100);
+	}
+
+	/**
+	 * Test a winning capture is the most visited and best scoring move.
+	 */
+	@Test
+	public void testWin() {
+		StandardCheckerGame game = SearchPositions.winningCapture();
+
+		MctsResult result = new MctsSearch(1 << 12, pool).search(game, WHITE_NUM, 200);
+
+		assertEquals(42, PackedMove.getToPosition(result.getBestMove()));
+		assertEquals(1.0, result.getScore(0), 0);
+	}
+
+	/**
+	 * Test the time limit stops the search.
+	 */
+	@Test
+	public void testTimeLimit() {
+		long start = System.currentTimeMillis();
+		MctsResult result = new MctsSearch(1 << 16, pool).search(new StandardCheckerGame(), WHITE_NUM,
+				Long.MAX_VALUE, 200);
+
+		assertTrue(System.currentTimeMillis() - start < 5000);
+		assertTrue(result.getIterations() > 0);
+		assertTrue(result.getBestMove() != PackedMove.NO_MOVE);
+	}
+
+	private <RULES extends CheckerRules> MctsResult assertSearch(MctsSearch search, CheckerGame<RULES> game,
+			int iterations) {
+		List<PieceState> before = game.getState();
+
+		MctsResult result = search.search(game, WHITE_NUM, iterations);
+
+		assertEquals(before, game.getState());
+		assertEquals(iterations, result.getIterations());
+
+		long[] moves = new long[game.getMaxMoves()];
+		int count = game.copy().generateMoves(WHITE_NUM, moves);
+		assertEquals(count, result.getMoveCount());
+
+		int visits = 0;
+		for (int i = 0; i < result.getMoveCount(); i++) {
+			assertTrue(isGenerated(moves, count, result.getMove(i)));
+			assertTrue(result.getScore(i) >= 0 && result.getScore(i) <= 1);
+			if (i > 0) assertTrue(result.getVisits(i - 1) >= result.getVisits(i));
+
+			visits += result.getVisits(i);
+		}
+
+		assertTrue(visits >= iterations - 4);
+		assertTrue(visits <= iterations);
+
+		return result;
+	}
+
+	private boolean isGenerated(long[] moves, int count, long move) {
+		for (int i = 0; i < count; i++) {
+			if (moves[i] == move) return true;
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+
+import java.util.List;
+
+import com.github.mrstampy.checkers4j.Piece;
+import com.github.mrstampy.checkers4j.standard.StandardCheckerGame;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Positions shared by the search tests.
+ */
+final class SearchPositions {
+
+	private SearchPositions() {
+	}
+
+	/**
+	 * Returns an 8x8 game in which white 9 @ 24 and 12 @ 23 face black's last
+	 * piece, 1 @ 33, which white 9 wins by jumping to 42.
+	 *
+	 * @return the game
+	 */
+	static StandardCheckerGame winningCapture() {
+		StandardCheckerGame game = new StandardCheckerGame();
+
+		List<Piece> pieces = game.getFullState();
+		for (Piece p : pieces) {
+			if (p.getColour() == WHITE_NUM && p.getNumber() == 9) {
+				p.setPosition(24);
+			} else if (p.getColour() == WHITE_NUM && p.getNumber() == 12) {
+				p.setPosition(23);
+			} else if (p.getColour() == BLACK_NUM && p.getNumber() == 1) {
+				p.setPosition(33);
+			} else {
+				p.jumped();
+			}
+		}
+		game.setState(pieces);
+
+		return game;
+	}
+}
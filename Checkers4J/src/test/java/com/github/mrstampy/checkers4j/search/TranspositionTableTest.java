@@ -0,0 +1,164 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.search;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class TranspositionTableTest.
+ */
+public class TranspositionTableTest {
+
+	/**
+	 * Test store and probe.
+	 */
+	@Test
+	public void testStoreProbe() {
+		TranspositionTable table = new TranspositionTable(10);
+
+		assertEquals(0, table.probe(42));
+
+		int move = TranspositionTable.compressMove(PackedMove.encode(BLACK_NUM, 12, 40, 26, 33, true));
+		assertEquals(BLACK_NUM, TranspositionTable.getMoveColour(move));
+		assertEquals(12, TranspositionTable.getMoveNumber(move));
+		assertEquals(26, TranspositionTable.getMoveToPosition(move));
+
+		table.store(42, 7, TranspositionTable.LOWER_BOUND, -1234, move);
+
+		long data = table.probe(42);
+		assertEquals(7, TranspositionTable.getDepth(data));
+		assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.getBound(data));
+		assertEquals(-1234, TranspositionTable.getScore(data));
+		assertEquals(move, TranspositionTable.getMove(data));
+
+		// no move keeps the existing best move
+		table.store(42, 3, TranspositionTable.EXACT, TranspositionTable.MAX_SCORE, 0);
+
+		data = table.probe(42);
+		assertEquals(3, TranspositionTable.getDepth(data));
+		assertEquals(TranspositionTable.MAX_SCORE, TranspositionTable.getScore(data));
+		assertEquals(move, TranspositionTable.getMove(data));
+
+		table.clear();
+		assertEquals(0, table.probe(42));
+	}
+
+	/**
+	 * Test replacement prefers shallow then old entries.
+	 */
+	@Test
+	public void testReplacement() {
+		TranspositionTable table = new TranspositionTable(2);
+
+		// one bucket, all keys collide
+		for (int i = 1; i <= TranspositionTable.BUCKET_SIZE; i++) {
+			table.store(i << 8, i, TranspositionTable.EXACT, i, 0);
+		}
+
+		table.store(5 << 8, 10, TranspositionTable.EXACT, 5, 0);
+		assertEquals(0, table.probe(1 << 8));
+		assertEquals(2, TranspositionTable.getDepth(table.probe(2 << 8)));
+
+		table.newSearch();
+		table.newSearch();
+		table.newSearch();
+
+		// entries three searches old are all shallower than depth 1
+		for (int i = 6; i <= 9; i++) {
+			table.store(i << 8, 1, TranspositionTable.EXACT, i, 0);
+		}
+
+		for (int i = 2; i <= 5; i++) {
+			assertEquals(0, table.probe(i << 8));
+		}
+
+		assertEquals(1, TranspositionTable.getDepth(table.probe(9 << 8)));
+	}
+
+	/**
+	 * Test concurrent writers never produce entries inconsistent with their key.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		TranspositionTable table = new TranspositionTable(8);
+
+		ExecutorService svc = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				long seed = t;
+				futures.add(svc.submit(() -> hammer(table, seed)));
+			}
+
+			int hits = 0;
+			for (Future<Integer> f : futures) {
+				hits += f.get();
+			}
+
+			assertTrue(hits > 0);
+		} finally {
+			svc.shutdownNow();
+		}
+	}
+
+	private int hammer(TranspositionTable table, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+
+		int hits = 0;
+		for (int i = 0; i < 200000; i++) {
+			long key = random.nextLong(4096) * 0x9E3779B97F4A7C15L;
+
+			long data = table.probe(key);
+			if (data != 0) {
+				hits++;
+				assertEquals(score(key), TranspositionTable.getScore(data));
+				assertEquals(depth(key), TranspositionTable.getDepth(data));
+			}
+
+			table.store(key, depth(key), TranspositionTable.EXACT, score(key), 0);
+		}
+
+		return hits;
+	}
+
+	private int score(long key) {
+		return (int) (key >>> 48) % TranspositionTable.MAX_SCORE;
+	}
+
+	private int depth(long key) {
+		return (int) (key >>> 20) & TranspositionTable.MAX_DEPTH;
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.standard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Tests {@link Bitboard} operations against those of {@link BitSet}, for sizes
+ * either side of and on word boundaries.
+ */
+public class BitboardTest {
+
+	private static final int[] SIZES = { 1, 63, 64, 65, 100, 128, 144, 256 };
+
+	private static final int[] SHIFTS = { 0, 1, 7, 9, 11, 63, 64, 65, 130 };
+
+	private Random rand = new Random(System.nanoTime());
+
+	/**
+	 * Test set, clear, get, pop count, is empty and next set bit.
+	 */
+	@Test
+	public void testBits() {
+		for (int size : SIZES) {
+			BitSet expected = randomBits(size);
+			Bitboard bb = toBitboard(expected, size);
+
+			assertBits(expected, bb);
+
+			int bit = rand.nextInt(size);
+			bb.clear(bit);
+			expected.clear(bit);
+			assertBits(expected, bb);
+
+			bb.clear();
+			assertTrue(bb.isEmpty());
+			assertEquals(-1, bb.nextSetBit(0));
+
+			bb.set(size - 1);
+			assertFalse(bb.isEmpty());
+			assertEquals(size - 1, bb.nextSetBit(0));
+			assertEquals(-1, bb.nextSetBit(size));
+		}
+	}
+
+	/**
+	 * Test and, or, and not, not, copy, intersects and equals.
+	 */
+	@Test
+	public void testLogic() {
+		for (int size : SIZES) {
+			BitSet a = randomBits(size);
+			BitSet b = randomBits(size);
+			Bitboard bbB = toBitboard(b, size);
+
+			BitSet expected = (BitSet) a.clone();
+			expected.and(b);
+			assertBits(expected, toBitboard(a, size).and(bbB));
+			assertEquals(a.intersects(b), toBitboard(a, size).intersects(bbB));
+
+			expected = (BitSet) a.clone();
+			expected.or(b);
+			assertBits(expected, toBitboard(a, size).or(bbB));
+
+			expected = (BitSet) a.clone();
+			expected.andNot(b);
+			assertBits(expected, toBitboard(a, size).andNot(bbB));
+
+			expected = (BitSet) a.clone();
+			expected.flip(0, size);
+			assertBits(expected, toBitboard(a, size).not());
+
+			assertEquals(toBitboard(a, size), new Bitboard(size).copy(toBitboard(a, size)));
+			assertEquals(toBitboard(a, size).hashCode(), new Bitboard(size).copy(toBitboard(a, size)).hashCode());
+		}
+	}
+
+	/**
+	 * Test shifts carry bits between words and discard those shifted beyond the
+	 * board.
+	 */
+	@Test
+	public void testShifts() {
+		for (int size : SIZES) {
+			for (int n : SHIFTS) {
+				BitSet bits = randomBits(size);
+
+				BitSet expected = new BitSet(size);
+				for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+					if (i + n < size) expected.set(i + n);
+				}
+				assertBits(expected, toBitboard(bits, size).shiftLeft(n));
+
+				expected = bits.get(Math.min(n, size), size);
+				assertBits(expected, toBitboard(bits, size).shiftRight(n));
+			}
+		}
+	}
+
+	private void assertBits(BitSet expected, Bitboard bb) {
+		assertEquals(expected.cardinality(), bb.popCount());
+		assertEquals(expected.isEmpty(), bb.isEmpty());
+
+		for (int i = 0; i < bb.size(); i++) {
+			assertEquals(expected.get(i), bb.get(i));
+			assertEquals(expected.nextSetBit(i), bb.nextSetBit(i));
+		}
+	}
+
+	private BitSet randomBits(int size) {
+		BitSet bits = new BitSet(size);
+
+		for (int i = 0; i < size; i++) {
+			if (rand.nextBoolean()) bits.set(i);
+		}
+
+		return bits;
+	}
+
+	private Bitboard toBitboard(BitSet bits, int size) {
+		Bitboard bb = new Bitboard(size);
+
+		for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+			bb.set(i);
+		}
+
+		return bb;
+	}
+}
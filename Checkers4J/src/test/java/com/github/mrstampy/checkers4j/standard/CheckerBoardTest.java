@@ -0,0 +1,168 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.standard;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.Piece;
+import com.github.mrstampy.checkers4j.PieceState;
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Tests the {@link CheckerBoard} and its bitboard backed subclasses
+ * {@link BitCheckerBoard} and {@link MultiWordCheckerBoard}.
+ */
+public class CheckerBoardTest {
+
+	private Random rand = new Random(System.nanoTime());
+
+	/**
+	 * Plays random games on bitboard backed games and {@link CheckerBoard} backed
+	 * games, asserting identical state and mobility after each move.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testBitboards() throws Exception {
+		assertTrue(new StandardCheckerGame().getBoard() instanceof BitCheckerBoard);
+
+		for (int size = 8; size <= 16; size += 2) {
+			for (int i = 0; i < 5; i++) {
+				testBitboards(new StandardCheckerRules(size, size));
+			}
+		}
+	}
+
+	private void testBitboards(StandardCheckerRules rules) throws Exception {
+		StandardCheckerGame bits = new StandardCheckerGame(rules);
+		StandardCheckerGame grid = new GridCheckerGame(rules);
+
+		Class<?> expected = rules.getBoardWidth() == 8 ? BitCheckerBoard.class : MultiWordCheckerBoard.class;
+		assertEquals(expected, bits.getBoard().getClass());
+		assertEquals(CheckerBoard.class, grid.getBoard().getClass());
+
+		int colour = BLACK_NUM;
+		for (int j = 0; j < 300 && CheckerGame.GameState.FINISHED != bits.getGameState(); j++) {
+			PieceState ps = makeMove(colour, bits, grid);
+
+			assertNotNull(ps);
+			assertEquals(bits.getState().size(), grid.getState().size());
+			for (PieceState bp : bits.getState()) {
+				assertNotNull(getPieceState(grid.getState(), bp.getNumber(), bp.getPosition()));
+			}
+
+			assertEquals(grid.canMove(WHITE_NUM), bits.canMove(WHITE_NUM));
+			assertEquals(grid.canMove(BLACK_NUM), bits.canMove(BLACK_NUM));
+			assertEquals(grid.getGameState(), bits.getGameState());
+			assertEquals(grid.hasTurn(), bits.hasTurn());
+
+			if (bits.hasTurn() == -1) colour = bits.getNextPlayer();
+		}
+	}
+
+	private PieceState makeMove(int pieceColour, StandardCheckerGame bits, StandardCheckerGame grid) throws Exception {
+		for (int k = 0; k < 1000; k++) {
+			int pieceNumber = rand.nextInt(bits.getRules().getNumberOfPieces()) + 1;
+
+			for (int i = 0; i < bits.getRules().getBoardHeight() * bits.getRules().getBoardWidth() - 1; i++) {
+				try {
+					bits.move(pieceColour, pieceNumber, i);
+				} catch (Exception expected) {
+					continue;
+				}
+
+				grid.move(pieceColour, pieceNumber, i);
+
+				return getPieceState(grid.getState(), pieceNumber, i);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Test mobility follows pieces as they are set, moved and removed.
+	 */
+	@Test
+	public void testCanMove() {
+		StandardCheckerRules rules = new StandardCheckerRules();
+
+		for (CheckerBoard board : new CheckerBoard[] { new CheckerBoard(8, 8), new BitCheckerBoard(8, 8),
+				new MultiWordCheckerBoard(8, 8) }) {
+			Piece white = new Piece(rules, WHITE_NUM, 1, 1);
+			Piece black = new Piece(rules, BLACK_NUM, 1, 1);
+
+			assertFalse(board.canMove(WHITE_NUM));
+
+			// white at 0,7 is blocked by the edge of the board
+			board.setBoardPiece(white, 0, 7);
+			board.setBoardPiece(black, 1, 6);
+			assertFalse(board.canMove(WHITE_NUM));
+			assertTrue(board.canMove(BLACK_NUM));
+
+			white.setKinged(true);
+			board.setBoardPiece(white, 0, 7);
+			assertTrue(board.canMove(WHITE_NUM));
+
+			board.setBoardPiece(null, 0, 7);
+			board.setBoardPiece(white, 2, 5);
+			assertTrue(board.canMove(WHITE_NUM));
+
+			board.setBoardPiece(null, 2, 5);
+			assertFalse(board.canMove(WHITE_NUM));
+			assertTrue(board.canMove(BLACK_NUM));
+
+			board.resetBoard();
+			assertFalse(board.canMove(BLACK_NUM));
+		}
+	}
+
+	private static class GridCheckerGame extends StandardCheckerGame {
+		private static final long serialVersionUID = 1L;
+
+		public GridCheckerGame(StandardCheckerRules checkerRules) {
+			super(checkerRules);
+		}
+
+		@Override
+		protected CheckerBoard createBoard(StandardCheckerRules rules) {
+			return new CheckerBoard(rules.getBoardWidth(), rules.getBoardHeight());
+		}
+	}
+
+	private PieceState getPieceState(List<PieceState> state, int number, int position) {
+		for (PieceState ps : state) {
+			if (ps.getNumber() == number && ps.getPosition() == position) return ps;
+		}
+
+		return null;
+	}
+}
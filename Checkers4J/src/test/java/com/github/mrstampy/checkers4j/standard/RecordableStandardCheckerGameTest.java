@@ -0,0 +1,122 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.standard;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.api.recorder.Move;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class RecordableStandardCheckerGameTest.
+ */
+public class RecordableStandardCheckerGameTest {
+
+	//@formatter:off
+	private static final long[] OPENING = {
+			PackedMove.encode(WHITE_NUM, 10, 19, 26, -1, false), 
+			PackedMove.encode(BLACK_NUM, 1, 40, 33, -1, false), 
+			PackedMove.encode(WHITE_NUM, 9, 17, 24, -1, false), 
+			PackedMove.encode(BLACK_NUM, 1, 33, 19, 26, false)
+	};
+	//@formatter:on
+
+	/**
+	 * Test moves are recorded however they are made, and unrecorded when unmade.
+	 */
+	@Test
+	public void testRecordAllMoves() {
+		RecordableStandardCheckerGame game = new RecordableStandardCheckerGame();
+
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(WHITE_NUM, 10, 26));
+		assertTrue(game.tryMove(BLACK_NUM, 1, 26) != CheckerGame.MOVE_OK);
+		assertEquals(CheckerGame.MOVE_OK, game.makeMove(BLACK_NUM, 1, 33));
+
+		long[] moves = new long[game.getMaxMoves()];
+		game.makeGeneratedMove(find(moves, game.generateMoves(WHITE_NUM, moves), OPENING[2]));
+
+		assertEquals(CheckerGame.MOVE_OK, game.makeMove(OPENING[3]));
+
+		assertArrayEquals(OPENING, game.getPackedMoves());
+
+		game.unmakeMove();
+		game.unmakeMove();
+
+		assertArrayEquals(new long[] { OPENING[0], OPENING[1] }, game.getPackedMoves());
+	}
+
+	/**
+	 * Test moves made via {@link CheckerGame#move(int, int, int)} are recorded
+	 * both packed and as {@link Move}s.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testMove() throws Exception {
+		RecordableStandardCheckerGame game = new RecordableStandardCheckerGame();
+		game.move(WHITE_NUM, 10, 26);
+		game.move(BLACK_NUM, 1, 33);
+		game.move(WHITE_NUM, 9, 24);
+		game.move(BLACK_NUM, 1, 19);
+
+		assertArrayEquals(OPENING, game.getPackedMoves());
+
+		List<Move> recorded = game.getMoves();
+		assertEquals(4, recorded.size());
+		assertEquals(19, recorded.get(3).getToPosition());
+	}
+
+	/**
+	 * Test each move keeps the id of the game when it was made.
+	 */
+	@Test
+	public void testGameIds() {
+		RecordableStandardCheckerGame game = new RecordableStandardCheckerGame();
+
+		game.setGameId(1);
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(WHITE_NUM, 10, 26));
+
+		game.setGameId(2);
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(BLACK_NUM, 1, 33));
+
+		List<Move> recorded = game.getMoves();
+		assertEquals(2, recorded.size());
+		assertEquals(1, recorded.get(0).getGameId());
+		assertEquals(2, recorded.get(1).getGameId());
+	}
+
+	private long find(long[] moves, int count, long move) {
+		for (int i = 0; i < count; i++) {
+			if (moves[i] == move) return move;
+		}
+
+		throw new AssertionError("Not generated: " + PackedMove.toString(move));
+	}
+}
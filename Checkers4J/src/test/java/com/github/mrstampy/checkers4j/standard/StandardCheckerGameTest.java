@@ -21,10 +21,14 @@ package com.github.mrstampy.checkers4j.standard;
 import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
 import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.Executors;
@@ -33,6 +37,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -40,6 +45,9 @@ import com.github.mrstampy.checkers4j.Piece;
 import com.github.mrstampy.checkers4j.PieceState;
 import com.github.mrstampy.checkers4j.api.CheckerGame;
 import com.github.mrstampy.checkers4j.api.CheckerRules;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+import com.github.mrstampy.checkers4j.ex.CheckersStateException.ErrorState;
+import com.sun.management.ThreadMXBean;
 
 // TODO: Auto-generated Javadoc
 /**
@@ -133,6 +141,370 @@ public class StandardCheckerGameTest {
 		}
 	}
 
+	/**
+	 * Shuffles a king of each colour back and forth via
+	 * {@link StandardCheckerGame#movePiece(int, int, int)}, asserting that no heap
+	 * allocation occurs once warmed up.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testMovePieceAllocation() throws Exception {
+		ThreadMXBean mx = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(mx.isThreadAllocatedMemorySupported());
+		mx.setThreadAllocatedMemoryEnabled(true);
+
+		List<Piece> pieces = game.getFullState();
+		pieces.forEach(p -> setKingShuffleState(p));
+		game.setState(pieces);
+
+		long tid = Thread.currentThread().getId();
+		mx.getThreadAllocatedBytes(tid);
+
+		kingShuffle(50000);
+
+		int moves = 40000;
+		long before = mx.getThreadAllocatedBytes(tid);
+		kingShuffle(moves / 4);
+		long allocated = mx.getThreadAllocatedBytes(tid) - before;
+
+		assertEquals(CheckerGame.GameState.STARTED, game.getGameState());
+		assertTrue("Allocated " + allocated + " bytes for " + moves + " moves", allocated < moves);
+	}
+
+	private void kingShuffle(int times) throws Exception {
+		for (int i = 0; i < times; i++) {
+			game.movePiece(WHITE_NUM, 1, 24);
+			game.movePiece(BLACK_NUM, 1, 53);
+			game.movePiece(WHITE_NUM, 1, 17);
+			game.movePiece(BLACK_NUM, 1, 46);
+		}
+	}
+
+	/*
+	 * white 1 kinged @ 1,2 black 1 kinged @ 6,5
+	 */
+	private void setKingShuffleState(Piece p) {
+		if (p.getNumber() != 1) {
+			p.jumped();
+			return;
+		}
+
+		p.setKinged(true);
+		p.setPosition(p.getColour() == WHITE_NUM ? 17 : 46);
+	}
+
+	/**
+	 * Test state array.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testStateArray() throws Exception {
+		PieceState[] array = new PieceState[initial.size()];
+
+		assertEquals(initial.size(), game.getState(array));
+		PieceState first = array[0];
+
+		game.move(WHITE_NUM, 9, 24);
+		game.move(BLACK_NUM, 1, 33);
+
+		assertEquals(initial.size(), game.getState(array));
+		assertTrue(first == array[0]);
+
+		List<PieceState> state = game.getState();
+		for (int i = 0; i < array.length; i++) {
+			assertEquals(state.get(i), array[i]);
+			assertEquals(state.get(i).getPosition(), array[i].getPosition());
+			assertEquals(state.get(i).isKinged(), array[i].isKinged());
+		}
+	}
+
+	/**
+	 * Test the packed state returned by a move decodes to the game's state.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testPackedState() throws Exception {
+		int[] state = game.movePacked(WHITE_NUM, 9, 24);
+		List<PieceState> list = game.getState();
+		assertEquals(list.size(), state.length);
+
+		PieceState ps = new PieceState();
+		for (int i = 0; i < state.length; i++) {
+			ps.decode(state[i]);
+
+			assertEquals(list.get(i), ps);
+			assertEquals(list.get(i).getPosition(), ps.getPosition());
+			assertEquals(list.get(i).isKinged(), ps.isKinged());
+			assertEquals(list.get(i).encode(), state[i]);
+		}
+	}
+
+	/**
+	 * Test try move.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testTryMove() throws Exception {
+		assertEquals(ErrorState.ILLEGAL_VALUE.getCode(), game.tryMove(5, 9, 24));
+		assertEquals(ErrorState.ILLEGAL_VALUE.getCode(), game.tryMove(WHITE_NUM, 9, 25));
+		assertEquals(ErrorState.ILLEGAL_STATE.getCode(), game.tryMove(WHITE_NUM, 99, 24));
+		assertEquals(ErrorState.ILLEGAL_MOVE.getCode(), game.tryMove(WHITE_NUM, 1, 8));
+		assertEquals(ErrorState.ILLEGAL_MOVE.getCode(), game.tryMove(WHITE_NUM, 9, 17));
+		assertEquals(ErrorState.ILLEGAL_MOVE.getCode(), game.tryMove(WHITE_NUM, 9, 33));
+		assertEquals(initial, game.getState());
+
+		game.setAutoEndTurn(false);
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(WHITE_NUM, 9, 24));
+		assertNotNull(getPieceState(game.getState(), 9, 24));
+
+		assertEquals(ErrorState.OUT_OF_TURN.getCode(), game.tryMove(BLACK_NUM, 1, 33));
+		game.endTurn(WHITE_NUM);
+		game.setAutoEndTurn(true);
+
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(BLACK_NUM, 1, 33));
+
+		game.move(WHITE_NUM, 10, 26);
+		assertEquals(ErrorState.ILLEGAL_JUMP.getCode(), game.tryMove(BLACK_NUM, 2, 28));
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(BLACK_NUM, 1, 19));
+		assertNotNull(getPieceState(game.getState(), 10, -1));
+	}
+
+	/**
+	 * Plays random games choosing from generated moves, asserting that every
+	 * generated move is legal, that moves are generated only for the colour
+	 * whose turn it is and that multi jumps are continued by the jumping piece.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testGenerateMoves() throws Exception {
+		long[] moves = new long[game.getMaxMoves()];
+
+		assertEquals(7, game.generateMoves(WHITE_NUM, moves));
+		assertEquals(7, game.generateMoves(BLACK_NUM, moves));
+
+		for (int size = 8; size <= 12; size += 2) {
+			for (int i = 0; i < 20; i++) {
+				StandardCheckerGame scg = new StandardCheckerGame(new StandardCheckerRules(size, size));
+				moves = new long[scg.getMaxMoves()];
+
+				playGeneratedGame(scg, moves);
+			}
+		}
+	}
+
+	private void playGeneratedGame(StandardCheckerGame scg, long[] moves) throws Exception {
+		int colour = WHITE_NUM;
+		int other = BLACK_NUM;
+		int continuing = -1;
+
+		for (int i = 0; i < 500 && scg.getGameState() != CheckerGame.GameState.FINISHED; i++) {
+			int count = scg.generateMoves(colour, moves);
+			assertEquals(scg.canMove(colour) || continuing != -1, count > 0);
+			if (count == 0) break;
+
+			if (scg.getLastPlayer() != -1) assertEquals(0, scg.generateMoves(other, moves));
+
+			long move = moves[rand.nextInt(count)];
+			int number = PackedMove.getNumber(move);
+			int to = PackedMove.getToPosition(move);
+
+			assertEquals(colour, PackedMove.getColour(move));
+			assertEquals(move, scg.toPackedMove(colour, number, to));
+			if (continuing != -1) assertEquals(continuing, number);
+
+			long opponents = countInPlay(scg, other);
+			boolean kinged = getPieceState(scg.getState(), number, PackedMove.getFromPosition(move)).isKinged();
+
+			scg.movePiece(colour, number, to);
+
+			assertEquals(PackedMove.isCapture(move), opponents != countInPlay(scg, other));
+			assertEquals(PackedMove.isPromotion(move), !kinged && getPieceState(scg.getState(), number, to).isKinged());
+
+			if (scg.hasTurn() == colour) {
+				continuing = number;
+			} else {
+				continuing = -1;
+				colour = scg.getNextPlayer();
+				other = scg.getLastPlayer();
+			}
+		}
+	}
+
+	private long countInPlay(StandardCheckerGame scg, int colour) {
+		return scg.getState(colour).stream().filter(ps -> ps.getPosition() != -1).count();
+	}
+
+	/**
+	 * Test make and unmake move.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testMakeUnmakeMove() throws Exception {
+		assertEquals(ErrorState.ILLEGAL_JUMP.getCode(), game.makeMove(WHITE_NUM, 9, 35));
+		assertEquals(-1, game.hasTurn());
+		assertEquals(-1, game.getLastPlayer());
+		assertEquals(CheckerGame.GameState.INITIALIZED, game.getGameState());
+		assertEquals(0, game.getUndoDepth());
+
+		for (int size = 8; size <= 12; size += 2) {
+			for (int i = 0; i < 20; i++) {
+				StandardCheckerGame scg = new StandardCheckerGame(new StandardCheckerRules(size, size));
+
+				makeUnmakeGame(scg, new long[scg.getMaxMoves()]);
+			}
+		}
+	}
+
+	private void makeUnmakeGame(StandardCheckerGame scg, long[] moves) {
+		List<String> snapshots = new ArrayList<>();
+		List<Long> made = new ArrayList<>();
+
+		int colour = WHITE_NUM;
+		for (int i = 0; i < 500; i++) {
+			int count = scg.generateMoves(colour, moves);
+			if (count == 0) break;
+
+			snapshots.add(snapshot(scg, colour, moves, count));
+
+			long move = moves[rand.nextInt(count)];
+			assertEquals(CheckerGame.MOVE_OK, scg.makeMove(move));
+			made.add(move);
+
+			colour = scg.hasTurn() >= 0 ? scg.hasTurn() : scg.getNextPlayer();
+		}
+
+		assertEquals(made.size(), scg.getUndoDepth());
+
+		for (int i = made.size() - 1; i >= 0; i--) {
+			assertEquals((long) made.get(i), scg.unmakeMove());
+
+			int count = scg.generateMoves(PackedMove.getColour(made.get(i)), moves);
+			assertEquals(snapshots.get(i), snapshot(scg, PackedMove.getColour(made.get(i)), moves, count));
+		}
+
+		assertEquals(CheckerGame.GameState.INITIALIZED, scg.getGameState());
+		assertEquals(scg.getRules().getNumberOfPieces(), scg.getPiecesInPlay(WHITE_NUM));
+
+		try {
+			scg.unmakeMove();
+			fail("Nothing to unmake");
+		} catch (IllegalStateException expected) {
+		}
+	}
+
+	/**
+	 * Test making generated moves without validation has exactly the effect of
+	 * making them with validation, and that they can be unmade.
+	 */
+	@Test
+	public void testMakeGeneratedMove() {
+		for (int size = 8; size <= 12; size += 2) {
+			for (int i = 0; i < 20; i++) {
+				StandardCheckerGame validated = new StandardCheckerGame(new StandardCheckerRules(size, size));
+				StandardCheckerGame generated = validated.copy();
+				String initial = snapshot(generated, WHITE_NUM, new long[0], 0);
+
+				long[] moves = new long[validated.getMaxMoves()];
+				long[] check = new long[validated.getMaxMoves()];
+
+				int colour = WHITE_NUM;
+				int made = 0;
+				for (; made < 500; made++) {
+					int count = validated.generateMoves(colour, moves);
+					if (count == 0) break;
+
+					long move = moves[rand.nextInt(count)];
+					assertEquals(CheckerGame.MOVE_OK, validated.makeMove(move));
+					generated.makeGeneratedMove(move);
+
+					colour = validated.hasTurn() >= 0 ? validated.hasTurn() : validated.getNextPlayer();
+
+					count = validated.generateMoves(colour, moves);
+					assertEquals(snapshot(validated, colour, moves, count),
+							snapshot(generated, colour, check, generated.generateMoves(colour, check)));
+				}
+
+				assertEquals(made, generated.getUndoDepth());
+				while (generated.getUndoDepth() > 0) {
+					generated.unmakeMove();
+				}
+
+				assertEquals(initial, snapshot(generated, WHITE_NUM, new long[0], 0));
+			}
+		}
+	}
+
+	/**
+	 * Test the incrementally maintained zobrist hash matches that of a copy,
+	 * which hashes from scratch.
+	 *
+	 * @throws Exception
+	 *           the exception
+	 */
+	@Test
+	public void testZobristHash() throws Exception {
+		StandardCheckerGame copy = game.copy();
+		assertEquals(game.getZobristHash(), copy.getZobristHash());
+
+		copy.makeMove(WHITE_NUM, 10, 26);
+		assertFalse(game.getZobristHash() == copy.getZobristHash());
+
+		copy.unmakeMove();
+		assertEquals(game.getZobristHash(), copy.getZobristHash());
+
+		for (int size = 8; size <= 12; size += 2) {
+			for (int i = 0; i < 10; i++) {
+				assertZobristHash(new StandardCheckerGame(new StandardCheckerRules(size, size)));
+			}
+		}
+	}
+
+	private void assertZobristHash(StandardCheckerGame cg) {
+		long[] moves = new long[cg.getMaxMoves()];
+
+		int colour = WHITE_NUM;
+		for (int i = 0; i < 500; i++) {
+			int count = cg.generateMoves(colour, moves);
+			if (count == 0) break;
+
+			long move = moves[rand.nextInt(count)];
+			assertEquals(CheckerGame.MOVE_OK,
+					cg.tryMove(PackedMove.getColour(move), PackedMove.getNumber(move), PackedMove.getToPosition(move)));
+
+			assertEquals(cg.getZobristHash(), cg.copy().getZobristHash());
+
+			colour = cg.hasTurn() >= 0 ? cg.hasTurn() : cg.getNextPlayer();
+		}
+	}
+
+	private String snapshot(StandardCheckerGame scg, int colour, long[] moves, int count) {
+		//@formatter:off
+		return Arrays.toString(scg.getPackedState()) + 
+				Arrays.toString(Arrays.copyOf(moves, count)) + 
+				scg.hasTurn() + "," + 
+				scg.getLastPlayer() + "," + 
+				scg.getNextPlayer() + "," + 
+				scg.getWinningColour() + "," + 
+				scg.getGameState() + "," + 
+				scg.getPiecesInPlay(WHITE_NUM) + "," + 
+				scg.getPiecesInPlay(BLACK_NUM) + "," + 
+				scg.canMove(colour) + "," + 
+				scg.getZobristHash();
+		//@formatter:on
+	}
+
 	/**
 	 * Test start.
 	 *
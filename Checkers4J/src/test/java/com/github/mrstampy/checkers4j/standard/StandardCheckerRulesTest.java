@@ -0,0 +1,101 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.standard;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+// TODO: Auto-generated Javadoc
+/**
+ * The Class StandardCheckerRulesTest.
+ */
+public class StandardCheckerRulesTest {
+
+	/**
+	 * Test compact indices.
+	 */
+	@Test
+	public void testCompactIndices() {
+		for (int size = 4; size <= 16; size += 2) {
+			StandardCheckerRules rules = new StandardCheckerRules(size, size);
+
+			assertEquals(size * size / 2, rules.getNumberOfPlayableSquares());
+
+			int last = -1;
+			for (int i = 0; i < rules.getNumberOfPlayableSquares(); i++) {
+				int position = rules.toPosition(i);
+
+				assertTrue(position > last);
+				assertTrue(rules.isValidPosition(position));
+				assertEquals(i, rules.toCompactIndex(position));
+				assertEquals(rules.getX(position), rules.getCompactX(i));
+				assertEquals(rules.getY(position), rules.getCompactY(i));
+
+				last = position;
+			}
+
+			for (int n = 1; n <= rules.getNumberOfPieces(); n++) {
+				int start = rules.getStartPosition(WHITE_NUM, n);
+				assertEquals(start, rules.toPosition(rules.getCompactStartPosition(WHITE_NUM, n)));
+			}
+		}
+	}
+
+	/**
+	 * Test diagonal tables.
+	 */
+	@Test
+	public void testDiagonalTables() {
+		StandardCheckerRules rules = new StandardCheckerRules(10, 10);
+
+		for (int i = 0; i < rules.getNumberOfPlayableSquares(); i++) {
+			int position = rules.toPosition(i);
+			int x = rules.getX(position);
+			int y = rules.getY(position);
+
+			for (int dir = 0; dir < StandardCheckerRules.DIRECTIONS; dir++) {
+				int adjacent = rules.getAdjacent(position, dir);
+				int landing = rules.getLanding(position, dir);
+
+				if (adjacent != -1) {
+					assertEquals(1, Math.abs(rules.getX(adjacent) - x));
+					assertEquals(1, Math.abs(rules.getY(adjacent) - y));
+					assertEquals(dir, rules.getMoveDirection(position, adjacent));
+				}
+
+				if (landing == -1) {
+					assertEquals(-1, rules.getJumped(position, dir));
+					continue;
+				}
+
+				assertEquals(adjacent, rules.getJumped(position, dir));
+				assertEquals(2, Math.abs(rules.getX(landing) - x));
+				assertEquals(2, Math.abs(rules.getY(landing) - y));
+				assertEquals(dir, rules.getJumpDirection(position, landing));
+
+				boolean forward = rules.getY(landing) > y;
+				int mask = forward ? StandardCheckerRules.WHITE_DIRECTIONS : StandardCheckerRules.BLACK_DIRECTIONS;
+				assertTrue((mask & (1 << dir)) != 0);
+			}
+		}
+	}
+}
@@ -0,0 +1,436 @@
+/*
+ * Checkers4J Copyright (C) 2015 Burton Alexander
+ * 
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation; either version 2 of the License, or (at your option) any later
+ * version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ * 
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc., 51
+ * Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ * 
+ */
+package com.github.mrstampy.checkers4j.standard.threeD;
+
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.BLACK_NUM;
+import static com.github.mrstampy.checkers4j.standard.StandardCheckerRules.WHITE_NUM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.github.mrstampy.checkers4j.Piece;
+import com.github.mrstampy.checkers4j.PieceState;
+import com.github.mrstampy.checkers4j.api.CheckerGame;
+import com.github.mrstampy.checkers4j.api.CheckerGame.GameState;
+import com.github.mrstampy.checkers4j.api.listener.CheckerGameListener;
+import com.github.mrstampy.checkers4j.api.recorder.PackedMove;
+import com.github.mrstampy.checkers4j.ex.CheckersStateException.ErrorState;
+
+// TODO: Auto-generated Javadoc
+/**
+ * Tests of the rules of movement of the {@link ThreeDStandardCheckerGame}.
+ * Positions are absolute, each board of 8x8 adding 64.
+ */
+public class ThreeDStandardCheckerGameTest {
+
+	private static final int BOARD = 64;
+
+	/**
+	 * Test pieces move diagonally forward on their board or onto an adjacent
+	 * board.
+	 */
+	@Test
+	public void testGeometry() {
+		ThreeDStandardCheckerGame game = new ThreeDStandardCheckerGame(3);
+		List<PieceState> initial = game.getState();
+
+		// straight ahead, on the same board and onto the next
+		assertEquals(ErrorState.ILLEGAL_MOVE.getCode(), game.tryMove(WHITE_NUM, 9, 33));
+		assertEquals(ErrorState.ILLEGAL_MOVE.getCode(), game.tryMove(WHITE_NUM, 9, BOARD + 33));
+
+		// one square diagonally but two boards across
+		assertEquals(ErrorState.ILLEGAL_MOVE.getCode(), game.tryMove(WHITE_NUM, 9, 2 * BOARD + 26));
+
+		// two squares diagonally with nothing to jump
+		assertEquals(ErrorState.ILLEGAL_JUMP.getCode(), game.tryMove(WHITE_NUM, 9, 35));
+
+		assertEquals(initial, game.getState());
+
+		int onBoard = game.getFullStateByBoard().get(0).size();
+
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(WHITE_NUM, 9, BOARD + 24));
+		assertPiece(game, 9, BOARD + 24);
+		assertEquals(onBoard - 1, game.getFullStateByBoard().get(0).size());
+		assertEquals(onBoard + 1, game.getFullStateByBoard().get(1).size());
+	}
+
+	/**
+	 * Test men may not move backwards.
+	 */
+	@Test
+	public void testDirection() {
+		ThreeDStandardCheckerGame game = new ThreeDStandardCheckerGame();
+
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(WHITE_NUM, 9, 26));
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(BLACK_NUM, 13, 33));
+
+		assertEquals(ErrorState.ILLEGAL_MOVE.getCode(), game.tryMove(WHITE_NUM, 9, 17));
+		assertEquals(ErrorState.ILLEGAL_MOVE.getCode(), game.tryMove(WHITE_NUM, 9, BOARD + 17));
+		assertPiece(game, 9, 26);
+	}
+
+	/**
+	 * Test the numbers of pieces on every board are valid.
+	 */
+	@Test
+	public void testPieceNumbers() {
+		ThreeDStandardCheckerGame game = new ThreeDStandardCheckerGame();
+
+		assertEquals(ErrorState.ILLEGAL_VALUE.getCode(), game.tryMove(WHITE_NUM, 49, BOARD + 24));
+		assertEquals(ErrorState.ILLEGAL_STATE.getCode(), game.tryMove(WHITE_NUM, 13, BOARD + 24));
+
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(WHITE_NUM, 33, BOARD + 24));
+		assertPiece(game, 33, BOARD + 24);
+	}
+
+	/**
+	 * Test a jump across boards captures the piece on the board between and
+	 * that the turn is kept for the continuing jump only.
+	 */
+	@Test
+	public void testJumpAcrossBoards() {
+		//@formatter:off
+		ThreeDStandardCheckerGame game = create(3, 
+				9, 17, 
+				37, 26, 
+				61, 44, 
+				62, 62);
+		//@formatter:on
+
+		long[] moves = new long[game.getMaxMoves()];
+		long jump = findCapture(moves, game.generateMoves(WHITE_NUM, moves));
+		assertEquals(2 * BOARD + 35, PackedMove.getToPosition(jump));
+		assertEquals(BOARD + 26, PackedMove.getCapturedPosition(jump));
+
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(WHITE_NUM, 9, 2 * BOARD + 35));
+		assertPiece(game, 9, 2 * BOARD + 35);
+		assertPiece(game, 37, -1);
+
+		// the jump continues on the far board
+		assertEquals(WHITE_NUM, game.hasTurn());
+		assertEquals(0, game.generateMoves(BLACK_NUM, moves));
+		assertEquals(ErrorState.OUT_OF_TURN.getCode(), game.tryMove(BLACK_NUM, 62, 2 * BOARD + 53));
+
+		int count = game.generateMoves(WHITE_NUM, moves);
+		assertEquals(1, count);
+		assertEquals(2 * BOARD + 53, PackedMove.getToPosition(moves[0]));
+
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(WHITE_NUM, 9, 2 * BOARD + 53));
+		assertPiece(game, 61, -1);
+
+		assertEquals(-1, game.hasTurn());
+		assertEquals(BLACK_NUM, game.getNextPlayer());
+	}
+
+	/**
+	 * Test turns are ended by the 3D game rather than its boards, and not at all
+	 * if auto end turn is off.
+	 */
+	@Test
+	public void testEndTurn() {
+		ThreeDStandardCheckerGame game = new ThreeDStandardCheckerGame();
+
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(WHITE_NUM, 9, BOARD + 24));
+		assertEquals(-1, game.hasTurn());
+		assertEquals(BLACK_NUM, game.getNextPlayer());
+
+		game.setAutoEndTurn(false);
+
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(BLACK_NUM, 13, 33));
+		assertEquals(BLACK_NUM, game.hasTurn());
+		assertEquals(0, game.generateMoves(WHITE_NUM, new long[game.getMaxMoves()]));
+		assertTrue(game.tryMove(BLACK_NUM, 13, BOARD + 24) != CheckerGame.MOVE_OK);
+
+		game.endTurn(BLACK_NUM);
+		assertEquals(-1, game.hasTurn());
+		assertEquals(WHITE_NUM, game.getNextPlayer());
+	}
+
+	/**
+	 * Test can move considers only the pieces of the specified colour.
+	 */
+	@Test
+	public void testCanMove() {
+		//@formatter:off
+		ThreeDStandardCheckerGame game = create(2, 
+				5, 49, 
+				13, 56, 
+				14, 58, 
+				37, 56, 
+				38, 58);
+		//@formatter:on
+
+		assertFalse(game.canMove(WHITE_NUM));
+		assertTrue(game.canMove(BLACK_NUM));
+	}
+
+	/**
+	 * Test a piece which can only move onto another board, or only jump onto the
+	 * board beyond, keeps its colour in play.
+	 */
+	@Test
+	public void testCanMoveAcrossBoards() {
+		// white 9 is blocked on board 0 but may move onto board 1
+		//@formatter:off
+		ThreeDStandardCheckerGame game = create(2, 
+				9, 49, 
+				13, 56, 
+				14, 58);
+		//@formatter:on
+
+		assertTrue(game.canMove(WHITE_NUM));
+
+		// white 9 is blocked on boards 0 and 1 but may jump onto board 2
+		//@formatter:off
+		game = create(3, 
+				9, 19, 
+				13, 26, 
+				14, 28, 
+				15, 33, 
+				16, 37, 
+				37, 26, 
+				38, 28);
+		//@formatter:on
+
+		assertTrue(game.canMove(WHITE_NUM));
+
+		// ...unless the landing squares are occupied
+		//@formatter:off
+		game = create(3, 
+				9, 19, 
+				13, 26, 
+				14, 28, 
+				15, 33, 
+				16, 37, 
+				37, 26, 
+				38, 28, 
+				61, 33, 
+				62, 37);
+		//@formatter:on
+
+		assertFalse(game.canMove(WHITE_NUM));
+	}
+
+	/**
+	 * Test the mobility of each colour agrees with that of its pieces throughout
+	 * random games, for boards of one and several words.
+	 */
+	@Test
+	public void testCanMoveByPiece() {
+		Random random = new Random(19);
+
+		for (int i = 0; i < 20; i++) {
+			assertCanMoveByPiece(new ThreeDStandardCheckerGame(2 + i % 2), random);
+			assertCanMoveByPiece(new ThreeDStandardCheckerGame(2 + i % 2, 10, 10), random);
+		}
+	}
+
+	private void assertCanMoveByPiece(ThreeDStandardCheckerGame game, Random random) {
+		long[] moves = new long[game.getMaxMoves()];
+		int colour = WHITE_NUM;
+
+		for (int ply = 0; ply < 300 && game.getGameState() != CheckerGame.GameState.FINISHED; ply++) {
+			assertEquals(canMoveByPiece(game, WHITE_NUM), game.canMove(WHITE_NUM));
+			assertEquals(canMoveByPiece(game, BLACK_NUM), game.canMove(BLACK_NUM));
+
+			if (game.hasTurn() != -1) colour = game.hasTurn();
+
+			int count = game.generateMoves(colour, moves);
+			if (count == 0) break;
+
+			long move = moves[random.nextInt(count)];
+			assertEquals(CheckerGame.MOVE_OK,
+					game.tryMove(colour, PackedMove.getNumber(move), PackedMove.getToPosition(move)));
+
+			if (game.hasTurn() == -1) colour = game.getNextPlayer();
+		}
+	}
+
+	private boolean canMoveByPiece(ThreeDStandardCheckerGame game, int pieceColour) {
+		for (List<Piece> pieces : game.getFullStateByBoard().values()) {
+			for (Piece p : pieces) {
+				if (p.getColour() == pieceColour && game.canMove(p)) return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Test moves made by {@link CheckerGame#tryMove(int, int, int)} are recorded
+	 * with absolute positions.
+	 */
+	@Test
+	public void testRecordTryMove() {
+		RecordableThreeDStandardCheckerGame game = new RecordableThreeDStandardCheckerGame();
+
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(WHITE_NUM, 9, BOARD + 24));
+		assertTrue(game.tryMove(BLACK_NUM, 13, BOARD + 24) != CheckerGame.MOVE_OK);
+
+		long[] moves = game.getPackedMoves();
+		assertEquals(1, moves.length);
+		assertEquals(PackedMove.encode(WHITE_NUM, 9, 17, BOARD + 24, -1, false), moves[0]);
+	}
+
+	/**
+	 * Test listeners are notified of the game starting and finishing by the
+	 * game's transitions only, not by setting, copying or restoring its state.
+	 */
+	@Test
+	public void testListenerTransitions() {
+		List<String> events = new ArrayList<>();
+
+		ThreeDStandardCheckerGame game = new ThreeDStandardCheckerGame();
+		game.addListener(new CheckerGameListener() {
+
+			@Override
+			public void started(long gameId) {
+				events.add("started");
+			}
+
+			@Override
+			public void finished(long gameId, int winningColour, boolean draw) {
+				events.add("finished " + winningColour + " " + draw);
+			}
+		});
+
+		ThreeDStandardCheckerGame started = new ThreeDStandardCheckerGame();
+		assertEquals(CheckerGame.MOVE_OK, started.tryMove(WHITE_NUM, 9, BOARD + 24));
+
+		game.copyFrom(started);
+		game.setGameState(GameState.INITIALIZED);
+		game.setGameState(GameState.STARTED);
+		game.setGameState(GameState.FINISHED);
+		game.setGameState(GameState.INITIALIZED);
+		assertTrue(events.isEmpty());
+
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(BLACK_NUM, 13, 33));
+		assertEquals(CheckerGame.MOVE_OK, game.tryMove(WHITE_NUM, 10, BOARD + 26));
+		game.draw();
+
+		assertEquals(Arrays.asList("started", "finished -1 true"), events);
+	}
+
+	/**
+	 * Test try move and generate moves return rather than throw for an invalid
+	 * colour.
+	 */
+	@Test
+	public void testInvalidColour() {
+		ThreeDStandardCheckerGame game = new ThreeDStandardCheckerGame();
+		List<PieceState> before = game.getState();
+
+		assertEquals(ErrorState.ILLEGAL_VALUE.getCode(), game.tryMove(7, 1, 10));
+		assertEquals(ErrorState.ILLEGAL_VALUE.getCode(), game.tryMove(-1, 1, 10));
+		assertEquals(0, game.generateMoves(7, new long[game.getMaxMoves()]));
+		assertEquals(before, game.getState());
+	}
+
+	/**
+	 * Test the incrementally maintained zobrist hash matches that of a copy,
+	 * which hashes from scratch.
+	 */
+	@Test
+	public void testZobristHash() {
+		Random rand = new Random(System.nanoTime());
+
+		for (int i = 0; i < 10; i++) {
+			assertZobristHash(new ThreeDStandardCheckerGame(), rand);
+			assertZobristHash(new ThreeDStandardCheckerGame(3, 10, 10), rand);
+		}
+	}
+
+	private void assertZobristHash(ThreeDStandardCheckerGame game, Random rand) {
+		long[] moves = new long[game.getMaxMoves()];
+
+		int colour = WHITE_NUM;
+		for (int i = 0; i < 500; i++) {
+			int count = game.generateMoves(colour, moves);
+			if (count == 0) break;
+
+			long move = moves[rand.nextInt(count)];
+			assertEquals(CheckerGame.MOVE_OK,
+					game.tryMove(PackedMove.getColour(move), PackedMove.getNumber(move), PackedMove.getToPosition(move)));
+
+			assertEquals(game.getZobristHash(), game.copy().getZobristHash());
+
+			colour = game.hasTurn() >= 0 ? game.hasTurn() : game.getNextPlayer();
+		}
+	}
+
+	/**
+	 * Creates a game in which only the specified pieces are in play, each at a
+	 * position relative to the board on which it starts.
+	 */
+	private ThreeDStandardCheckerGame create(int numBoards, int... numbersAndPositions) {
+		ThreeDStandardCheckerGame game = new ThreeDStandardCheckerGame(numBoards);
+
+		Map<Integer, List<Piece>> state = game.getFullStateByBoard();
+		for (List<Piece> pieces : state.values()) {
+			for (Piece p : pieces) {
+				int idx = indexOf(p.getNumber(), numbersAndPositions);
+
+				if (idx == -1) {
+					p.jumped();
+				} else {
+					p.setPosition(numbersAndPositions[idx + 1]);
+				}
+			}
+		}
+
+		game.setState(state);
+
+		return game;
+	}
+
+	private long findCapture(long[] moves, int count) {
+		for (int i = 0; i < count; i++) {
+			if (PackedMove.isCapture(moves[i])) return moves[i];
+		}
+
+		return PackedMove.NO_MOVE;
+	}
+
+	private int indexOf(int number, int[] numbersAndPositions) {
+		for (int i = 0; i < numbersAndPositions.length; i += 2) {
+			if (numbersAndPositions[i] == number) return i;
+		}
+
+		return -1;
+	}
+
+	private void assertPiece(ThreeDStandardCheckerGame game, int number, int position) {
+		for (PieceState ps : game.getState()) {
+			if (ps.getNumber() == number) {
+				assertEquals(position, ps.getPosition());
+				return;
+			}
+		}
+
+		assertEquals(-1, position);
+	}
+}